@@ -0,0 +1,36 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+class BatchResult {
+    private final TransferStatus[] statuses;
+    private int applied;
+    private int failed;
+    private int locksAcquired;
+
+    public BatchResult(int size) {
+        this.statuses = new TransferStatus[size];
+    }
+
+    void accept(int index) { statuses[index] = TransferStatus.APPLIED; applied++; }
+    void reject(int index, TransferStatus status) { statuses[index] = status; failed++; }
+    void setLocksAcquired(int locksAcquired) { this.locksAcquired = locksAcquired; }
+
+    // All-or-nothing mode: the items that would have applied are reported as aborted
+    void abort() {
+        for (int i = 0; i < statuses.length; i++) {
+            if (statuses[i] == TransferStatus.APPLIED) {
+                statuses[i] = TransferStatus.ABORTED;
+            }
+        }
+        failed += applied;
+        applied = 0;
+    }
+
+    public TransferStatus getStatus(int index) { return statuses[index]; }
+    public int getApplied() { return applied; }
+    public int getFailed() { return failed; }
+
+    @Override
+    public String toString() {
+        return String.format("Batch: %d applied, %d failed, %d locks acquired", applied, failed, locksAcquired);
+    }
+}
@@ -1,15 +1,10 @@
 package LLDQuestions.DigitalWallet.concurrent;
 
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Main class to demonstrate a concurrent Digital Wallet system.
@@ -47,153 +42,21 @@ public class DigitalWalletConcurrentDemo {
             
             System.out.println("\n--- Tushit's Transaction History ---");
             walletService.printTransactionHistory("Tushit");
-        } else {
-            System.out.println("Error: Transfers timed out.");
-        }
-    }
-}
-
-// --- Models ---
-
-class User {
-    private final String name; // Use name as a unique, comparable ID
-    private final Wallet wallet;
-
-    public User(String name, double initialBalance) {
-        this.name = name;
-        this.wallet = new Wallet(initialBalance);
-    }
-    public String getName() { return name; }
-    public Wallet getWallet() { return wallet; }
-}
-
-class Wallet {
-    private double balance;
-    private final List<Transaction> transactions;
-    private final Lock lock = new ReentrantLock(); // Each wallet has its own lock
-
-    public Wallet(double initialBalance) {
-        this.balance = initialBalance;
-        this.transactions = new ArrayList<>();
-    }
-    
-    public Lock getLock() { return lock; }
-    public double getBalance() { return balance; }
-    public void deposit(double amount) { this.balance += amount; }
-    public void withdraw(double amount) { this.balance -= amount; }
-    public void addTransaction(Transaction t) { this.transactions.add(t); }
-    public List<Transaction> getTransactions() { return transactions; }
-}
-
-enum TransactionType { DEBIT, CREDIT }
-
-class Transaction {
-    private final double amount;
-    private final TransactionType type;
-    private final Date date;
-    private final String description;
-
-    public Transaction(double amount, TransactionType type, String description) {
-        this.amount = amount;
-        this.type = type;
-        this.date = new Date();
-        this.description = description;
-    }
-    @Override
-    public String toString() {
-        return String.format("[%s] %s of %.2f. Desc: %s", date, type, amount, description);
-    }
-}
-
-// --- The Main Service Class ---
-
-class WalletService {
-    private final Map<String, User> userAccounts = new ConcurrentHashMap<>();
-    private final ExecutorService executor;
-
-    public WalletService(ExecutorService executor) {
-        this.executor = executor;
-    }
-
-    public void createWallet(String name, double initialBalance) {
-        userAccounts.put(name, new User(name, initialBalance));
-    }
-
-    /**
-     * Submits a transfer task to the executor service for asynchronous processing.
-     */
-    public void transferMoney(String fromUserName, String toUserName, double amount) {
-        User fromUser = userAccounts.get(fromUserName);
-        User toUser = userAccounts.get(toUserName);
-
-        if (fromUser == null || toUser == null || amount <= 0) {
-            System.out.println("Invalid transfer request.");
-            return;
-        }
-        // Create a task for the transfer and submit it to the thread pool
-        executor.submit(new TransferTask(fromUser, toUser, amount));
-    }
-
-    public void printTransactionHistory(String userName) {
-        User user = userAccounts.get(userName);
-        if (user != null) {
-            user.getWallet().getTransactions().forEach(System.out::println);
-        }
-    }
 
-    public void printAllBalances() {
-        System.out.println("  Current Balances:");
-        userAccounts.values().stream()
-            .sorted((u1, u2) -> u1.getName().compareTo(u2.getName()))
-            .forEach(user -> System.out.println(
-                "    - " + user.getName() + ": " + String.format("%.2f", user.getWallet().getBalance())
-            ));
-    }
-}
-
-// --- The Concurrent Task ---
-
-class TransferTask implements Runnable {
-    private final User fromUser;
-    private final User toUser;
-    private final double amount;
-
-    public TransferTask(User fromUser, User toUser, double amount) {
-        this.fromUser = fromUser;
-        this.toUser = toUser;
-        this.amount = amount;
-    }
-
-    @Override
-    public void run() {
-        // To prevent deadlock, we establish a consistent lock acquisition order.
-        User first = fromUser.getName().compareTo(toUser.getName()) < 0 ? fromUser : toUser;
-        User second = first == fromUser ? toUser : fromUser;
-
-        // Acquire locks in the defined order
-        first.getWallet().getLock().lock();
-        second.getWallet().getLock().lock();
-
-        try {
-            // Perform the check and act atomically
-            if (fromUser.getWallet().getBalance() >= amount) {
-                fromUser.getWallet().withdraw(amount);
-                toUser.getWallet().deposit(amount);
-
-                // Add transaction records
-                String fromDesc = "Sent to " + toUser.getName();
-                fromUser.getWallet().addTransaction(new Transaction(amount, TransactionType.DEBIT, fromDesc));
-                String toDesc = "Received from " + fromUser.getName();
-                toUser.getWallet().addTransaction(new Transaction(amount, TransactionType.CREDIT, toDesc));
-                
-                // System.out.println("Success: " + fromUser.getName() + " -> " + toUser.getName() + ": " + amount);
-            } else {
-                // System.out.println("Failed (insufficient funds): " + fromUser.getName() + " -> " + toUser.getName());
+            // 4. A payroll-style batch: many small transfers, netted and locked once per account
+            System.out.println("\n--- Deepak pays out a batch of 300 transfers ---");
+            List<TransferRequest> payroll = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                payroll.add(new TransferRequest("Deepak", "Tushit", 2.0));
+                payroll.add(new TransferRequest("Deepak", "Ankit", 3.0));
+                payroll.add(new TransferRequest("Ankit", "Deepak", 1.0));
             }
-        } finally {
-            // ALWAYS release locks in the reverse order of acquisition in a finally block
-            second.getWallet().getLock().unlock();
-            first.getWallet().getLock().unlock();
+            payroll.add(new TransferRequest("Tushit", "Nobody", 1.0)); // rejected item
+            BatchResult result = walletService.transferBatch(payroll);
+            System.out.println("  " + result);
+            walletService.printAllBalances();
+        } else {
+            System.out.println("Error: Transfers timed out.");
         }
     }
 }
@@ -0,0 +1,83 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free, fixed-size latency histogram in the style of HdrHistogram.
+ *
+ * Values are bucketed by powers of two, and each power of two is split into 64
+ * linear sub-buckets, so any recorded value is reported within ~1.5% of its true
+ * value while the whole range of a long fits in a few thousand counters.
+ * Recording is a single atomic increment and never allocates.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;  // 128
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;    // 64
+    private static final int BUCKETS = 64 - SUB_BUCKET_BITS + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray((BUCKETS + 1) * SUB_BUCKET_HALF);
+
+    public void record(long value) {
+        counts.incrementAndGet(indexOf(Math.max(0, value)));
+    }
+
+    public long getTotalCount() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the value at the given percentile (0-100), or 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = getTotalCount();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return highestValueAt(i);
+            }
+        }
+        return highestValueAt(counts.length() - 1);
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    // Bucket 0 covers [0, 128) one value per slot; bucket b > 0 covers
+    // [64 << b, 128 << b) in 64 slots of width 1 << b.
+    private static int indexOf(long value) {
+        int bucket = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        int subBucket = (int) (value >>> bucket);
+        return bucket == 0 ? subBucket : (bucket + 1) * SUB_BUCKET_HALF + (subBucket - SUB_BUCKET_HALF);
+    }
+
+    private static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int bucket = index / SUB_BUCKET_HALF - 1;
+        long subBucket = index % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((subBucket + 1) << bucket) - 1;
+    }
+
+    /**
+     * Formats p50/p99/p99.9/max in microseconds for a histogram of nanosecond values.
+     */
+    public String summarizeMicros() {
+        return String.format("p50=%,8.1fus  p99=%,9.1fus  p999=%,9.1fus  max=%,9.1fus  (n=%,d)",
+            getValueAtPercentile(50) / 1000.0, getValueAtPercentile(99) / 1000.0,
+            getValueAtPercentile(99.9) / 1000.0, getValueAtPercentile(100) / 1000.0, getTotalCount());
+    }
+}
@@ -0,0 +1,277 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A single-writer alternative to TransferTask. Accounts are hash-partitioned onto
+ * shards, and each shard is a single-threaded executor that owns its accounts
+ * outright, so no account state is ever guarded by a lock.
+ *
+ * A transfer is two messages: a DEBIT to the source shard, then a CREDIT to the
+ * destination shard. The CREDIT step is idempotent, so the hop between shards may
+ * deliver it more than once: the source shard stamps each CREDIT with the next
+ * sequence number for that destination, and the destination applies a CREDIT only if
+ * its number is above the high-water mark it keeps for that source. Messages between
+ * two shards arrive in order, so the whole record is one long per pair of shards.
+ */
+public class ShardedTransferPipeline {
+    private final Shard[] shards;
+    private final Set<String> wallets = ConcurrentHashMap.newKeySet();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicBoolean shuttingDown = new AtomicBoolean();
+    private final CountDownLatch drained = new CountDownLatch(1);
+    private final boolean redeliverCredits; // Demo only: send every cross-shard CREDIT twice
+
+    public ShardedTransferPipeline(int shardCount) {
+        this(shardCount, false);
+    }
+
+    ShardedTransferPipeline(int shardCount, boolean redeliverCredits) {
+        this.redeliverCredits = redeliverCredits;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+        }
+    }
+
+    private Shard shardFor(String account) {
+        return shards[Math.floorMod(account.hashCode(), shards.length)];
+    }
+
+    public void createWallet(String name, double initialBalance) {
+        Shard shard = shardFor(name);
+        CompletableFuture.runAsync(() -> shard.balances.putIfAbsent(name, StripedLedger.toMinor(initialBalance)), shard.executor).join();
+        wallets.add(name);
+    }
+
+    /**
+     * Starts a transfer and returns a future that completes with true once the
+     * destination has been credited, or false if the source had insufficient funds.
+     * Throws IllegalStateException once shutdown has begun.
+     */
+    public CompletableFuture<Boolean> transferMoney(String fromUserName, String toUserName, double amount) {
+        long amountMinor = StripedLedger.toMinor(amount);
+        if (amountMinor <= 0 || fromUserName.equals(toUserName)
+                || !wallets.contains(fromUserName) || !wallets.contains(toUserName)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        TransferMessage message = new TransferMessage(fromUserName, toUserName, amountMinor);
+        // Count first, then check: either shutdown sees this transfer and waits for it,
+        // or this call sees shutdown and backs out before sending anything
+        inFlight.incrementAndGet();
+        if (shuttingDown.get()) {
+            if (inFlight.decrementAndGet() == 0) {
+                drained.countDown();
+            }
+            throw new IllegalStateException("Pipeline is shut down.");
+        }
+        message.result.whenComplete((ok, error) -> {
+            if (inFlight.decrementAndGet() == 0 && shuttingDown.get()) {
+                drained.countDown();
+            }
+        });
+        send(shardFor(fromUserName), message, Step.DEBIT);
+        return message.result;
+    }
+
+    public CompletableFuture<Double> getBalance(String name) {
+        Shard shard = shardFor(name);
+        return CompletableFuture.supplyAsync(() -> StripedLedger.toMajor(shard.balances.getOrDefault(name, 0L)), shard.executor);
+    }
+
+    private void send(Shard shard, TransferMessage message, Step step) {
+        shard.executor.execute(() -> shard.deliver(message, step));
+    }
+
+    public long totalMinor() {
+        long total = 0;
+        for (Shard shard : shards) {
+            total += CompletableFuture.supplyAsync(() -> {
+                long sum = 0;
+                for (long minor : shard.balances.values()) {
+                    sum += minor;
+                }
+                return sum;
+            }, shard.executor).join();
+        }
+        return total;
+    }
+
+    public void shutdown() throws InterruptedException {
+        // A debit may still be about to post a credit to another shard, so wait for
+        // every transfer to finish before closing any executor.
+        shuttingDown.set(true);
+        if (inFlight.get() == 0) {
+            drained.countDown();
+        }
+        drained.await();
+        for (Shard shard : shards) {
+            shard.executor.shutdown();
+            shard.executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    public void printAllBalances() {
+        System.out.println("  Current Balances:");
+        for (Shard shard : shards) {
+            CompletableFuture.runAsync(() -> shard.balances.forEach((name, minor) ->
+                System.out.println("    - " + name + " (shard " + shard.index + "): " + String.format("%.2f", StripedLedger.toMajor(minor)))
+            ), shard.executor).join();
+        }
+    }
+
+    private enum Step { DEBIT, CREDIT }
+
+    private static class TransferMessage {
+        final String from;
+        final String to;
+        final long amountMinor;
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        int sourceShard;  // Set by the source shard when it sends the CREDIT
+        long creditSeq;
+
+        TransferMessage(String from, String to, long amountMinor) {
+            this.from = from;
+            this.to = to;
+            this.amountMinor = amountMinor;
+        }
+    }
+
+    // --- A shard: plain collections, touched only by its own thread ---
+
+    private class Shard {
+        final int index;
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Map<String, Long> balances = new HashMap<>();
+        final long[] sentTo;      // [destination shard] last CREDIT sequence number sent there
+        final long[] appliedFrom; // [source shard] highest CREDIT sequence number applied from there
+
+        Shard(int index) {
+            this.index = index;
+            this.sentTo = new long[shards.length];
+            this.appliedFrom = new long[shards.length];
+        }
+
+        void deliver(TransferMessage message, Step step) {
+            if (step == Step.DEBIT) {
+                debit(message);
+            } else {
+                credit(message);
+            }
+        }
+
+        private void debit(TransferMessage message) {
+            Long balance = balances.get(message.from);
+            if (balance == null || balance < message.amountMinor) {
+                message.result.complete(false);
+                return;
+            }
+            balances.put(message.from, balance - message.amountMinor);
+            Shard destination = shardFor(message.to);
+            if (destination == this) {
+                applyCredit(message); // same shard, no need for a second hop
+                return;
+            }
+            message.sourceShard = index;
+            message.creditSeq = ++sentTo[destination.index];
+            send(destination, message, Step.CREDIT);
+            if (redeliverCredits) {
+                send(destination, message, Step.CREDIT);
+            }
+        }
+
+        private void credit(TransferMessage message) {
+            if (message.creditSeq <= appliedFrom[message.sourceShard]) {
+                return; // A redelivered CREDIT that was already applied
+            }
+            appliedFrom[message.sourceShard] = message.creditSeq;
+            applyCredit(message);
+        }
+
+        private void applyCredit(TransferMessage message) {
+            balances.merge(message.to, message.amountMinor, Long::sum);
+            message.result.complete(true);
+        }
+    }
+
+    // --- Demo: throughput by shard count under skewed (hot-wallet) traffic ---
+
+    public static void main(String[] args) throws InterruptedException {
+        int accounts = 10_000;
+        int producers = 4;
+        int transfersPerProducer = 250_000;
+
+        for (int shardCount : new int[] {1, 2, 4, 8}) {
+            run(shardCount, false, accounts, producers, transfersPerProducer);
+        }
+        // Same traffic over a hop that delivers every CREDIT twice: the duplicates must be dropped
+        run(4, true, accounts, producers, transfersPerProducer);
+    }
+
+    private static void run(int shardCount, boolean redeliverCredits, int accounts, int producers, int transfersPerProducer)
+            throws InterruptedException {
+        ShardedTransferPipeline pipeline = new ShardedTransferPipeline(shardCount, redeliverCredits);
+        for (int i = 0; i < accounts; i++) {
+            pipeline.createWallet("user-" + i, 1000.0);
+        }
+
+        List<List<CompletableFuture<Boolean>>> results = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            List<CompletableFuture<Boolean>> mine = new ArrayList<>(transfersPerProducer);
+            results.add(mine);
+            Thread producer = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < transfersPerProducer; i++) {
+                    // 80% of transfers go to one of 10 hot wallets
+                    int to = random.nextInt(10) < 8 ? random.nextInt(10) : random.nextInt(accounts);
+                    mine.add(pipeline.transferMoney("user-" + random.nextInt(accounts), "user-" + to, 1.0));
+                }
+            });
+            producer.start();
+            threads.add(producer);
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread producer : threads) {
+            producer.join();
+        }
+        for (List<CompletableFuture<Boolean>> mine : results) {
+            CompletableFuture.allOf(mine.toArray(new CompletableFuture<?>[0])).join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        boolean conserved = pipeline.totalMinor() == accounts * StripedLedger.toMinor(1000.0);
+        pipeline.shutdown();
+
+        boolean rejected = false;
+        try {
+            pipeline.transferMoney("user-0", "user-1", 1.0);
+        } catch (IllegalStateException e) {
+            rejected = true;
+        }
+        long transfers = (long) producers * transfersPerProducer;
+        System.out.println(String.format("%d shard(s)%s: %,d transfers/sec from %d producers, money conserved: %b, rejected after shutdown: %b",
+            shardCount, redeliverCredits ? " with every CREDIT sent twice" : "", transfers * 1_000_000_000L / elapsed,
+            producers, conserved, rejected));
+    }
+}
@@ -0,0 +1,218 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free balance ledger. Balances are kept as long minor units (paise/cents)
+ * in one AtomicLongArray, each account padded onto its own cache line so that
+ * transfers between disjoint account pairs never touch the same memory.
+ *
+ * A transfer is a CAS-loop debit on the source (which is where the balance check
+ * happens) followed by an unconditional atomic credit on the destination. Money is
+ * never created or lost; a reader may briefly observe it "in flight" between the two steps.
+ */
+public class StripedLedger {
+    // 8 longs = 64 bytes, one account per cache line to avoid false sharing
+    private static final int STRIDE = 8;
+
+    private final AtomicLongArray balances;
+    private final Map<String, Integer> accountIds = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<String> names; // Set last, so a visible name means an initialised account
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public StripedLedger(int capacity) {
+        this.balances = new AtomicLongArray(capacity * STRIDE);
+        this.names = new AtomicReferenceArray<>(capacity);
+    }
+
+    public static long toMinor(double amount) { return Math.round(amount * 100); }
+    public static double toMajor(long minor) { return minor / 100.0; }
+
+    /**
+     * Opens an account and returns its id. Throws IllegalArgumentException if an
+     * account with this name already exists, rather than ignoring initialMinor.
+     */
+    public int openAccount(String name, long initialMinor) {
+        boolean[] opened = new boolean[1];
+        int accountId = accountIds.computeIfAbsent(name, n -> {
+            // Only take an id below capacity, so nextId never runs past the arrays
+            int id;
+            do {
+                id = nextId.get();
+                if (id >= names.length()) {
+                    throw new IllegalStateException("Ledger is full.");
+                }
+            } while (!nextId.compareAndSet(id, id + 1));
+            // Readers iterate up to nextId: publish the balance before the name
+            balances.set(id * STRIDE, initialMinor);
+            names.set(id, n);
+            opened[0] = true;
+            return id;
+        });
+        if (!opened[0]) {
+            throw new IllegalArgumentException("Account already exists: " + name);
+        }
+        return accountId;
+    }
+
+    public int idOf(String name) {
+        Integer id = accountIds.get(name);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown account: " + name);
+        }
+        return id;
+    }
+
+    public long balanceOf(int accountId) { return balances.get(accountId * STRIDE); }
+
+    /**
+     * Moves amountMinor from one account to another without taking any lock.
+     * Returns false if the source has insufficient funds.
+     */
+    public boolean transfer(int fromId, int toId, long amountMinor) {
+        if (amountMinor <= 0 || fromId == toId) {
+            return false;
+        }
+        int fromSlot = fromId * STRIDE;
+        long current;
+        do {
+            current = balances.get(fromSlot);
+            if (current < amountMinor) {
+                return false;
+            }
+        } while (!balances.compareAndSet(fromSlot, current, current - amountMinor));
+        balances.getAndAdd(toId * STRIDE, amountMinor);
+        return true;
+    }
+
+    public boolean transfer(String fromName, String toName, double amount) {
+        return transfer(idOf(fromName), idOf(toName), toMinor(amount));
+    }
+
+    public long totalMinor() {
+        long total = 0;
+        for (int id = 0; id < nextId.get(); id++) {
+            if (names.get(id) != null) { // Skip ids still being opened
+                total += balanceOf(id);
+            }
+        }
+        return total;
+    }
+
+    public void printAllBalances() {
+        System.out.println("  Current Balances:");
+        for (int id = 0; id < nextId.get(); id++) {
+            String name = names.get(id);
+            if (name != null) {
+                System.out.println("    - " + name + ": " + String.format("%.2f", toMajor(balanceOf(id))));
+            }
+        }
+    }
+
+    // --- Benchmark: striped ledger vs. a single global transfer lock ---
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = 16;
+        int accounts = 1024;
+        int transfersPerThread = 1_000_000;
+
+        StripedLedger ledger = new StripedLedger(accounts);
+        GlobalLockLedger baseline = new GlobalLockLedger(accounts);
+        for (int i = 0; i < accounts; i++) {
+            ledger.openAccount("user-" + i, toMinor(1000.0));
+            baseline.openAccount(i, toMinor(1000.0));
+        }
+
+        long lockedNanos = runBenchmark(threads, transfersPerThread, accounts,
+            (from, to, amount) -> baseline.transfer(from, to, amount));
+        long stripedNanos = runBenchmark(threads, transfersPerThread, accounts,
+            (from, to, amount) -> ledger.transfer(from, to, amount));
+
+        long ops = (long) threads * transfersPerThread;
+        System.out.println(String.format("Global lock : %,d transfers/sec", ops * 1_000_000_000L / lockedNanos));
+        System.out.println(String.format("Striped CAS : %,d transfers/sec", ops * 1_000_000_000L / stripedNanos));
+        System.out.println(String.format("Speedup     : %.1fx", (double) lockedNanos / stripedNanos));
+
+        long expected = accounts * toMinor(1000.0);
+        System.out.println("Money conserved: " + (ledger.totalMinor() == expected && baseline.totalMinor() == expected));
+        try {
+            ledger.openAccount("user-0", toMinor(1_000_000.0));
+            System.out.println("Reopening user-0 was accepted.");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Reopening user-0 rejected: " + e.getMessage());
+        }
+    }
+
+    private interface TransferOp {
+        boolean transfer(int fromId, int toId, long amountMinor);
+    }
+
+    private static long runBenchmark(int threads, int transfersPerThread, int accounts, TransferOp op)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                    for (int i = 0; i < transfersPerThread; i++) {
+                        op.transfer(random.nextInt(accounts), random.nextInt(accounts), 1 + random.nextInt(100));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return elapsed;
+    }
+}
+
+// The original design: every transfer serializes on one lock.
+class GlobalLockLedger {
+    private final long[] balances;
+    private final Object transferLock = new Object();
+
+    public GlobalLockLedger(int capacity) {
+        this.balances = new long[capacity];
+    }
+
+    public void openAccount(int id, long initialMinor) { balances[id] = initialMinor; }
+
+    public boolean transfer(int fromId, int toId, long amountMinor) {
+        synchronized (transferLock) {
+            if (fromId == toId || balances[fromId] < amountMinor) {
+                return false;
+            }
+            balances[fromId] -= amountMinor;
+            balances[toId] += amountMinor;
+            return true;
+        }
+    }
+
+    public long totalMinor() {
+        synchronized (transferLock) {
+            long total = 0;
+            for (long balance : balances) {
+                total += balance;
+            }
+            return total;
+        }
+    }
+}
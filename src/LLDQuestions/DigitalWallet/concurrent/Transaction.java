@@ -0,0 +1,21 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+import java.util.Date;
+
+class Transaction {
+    private final double amount;
+    private final TransactionType type;
+    private final Date date;
+    private final String description;
+
+    public Transaction(double amount, TransactionType type, String description) {
+        this.amount = amount;
+        this.type = type;
+        this.date = new Date();
+        this.description = description;
+    }
+    @Override
+    public String toString() {
+        return String.format("[%s] %s of %.2f. Desc: %s", date, type, amount, description);
+    }
+}
@@ -0,0 +1,461 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * A durable, append-only transaction journal that replaces Wallet's in-memory
+ * List<Transaction>.
+ *
+ * Every transfer is one fixed-size 64-byte record in a memory-mapped segment file.
+ * Each record also stores the offset of the previous record for its sender and for
+ * its receiver, so a wallet's history is a chain of offsets through the journal and
+ * the heap only ever holds a balance and a head offset per wallet. Balances are
+ * rebuilt on open by replaying the segments.
+ *
+ * Writers append under one lock and then wait for a background flusher, which
+ * force()s the segment once for every batch of records written since its last
+ * flush (group commit).
+ *
+ * Only the current segment is mapped. A segment is closed once it is full, and
+ * history reads open sealed segments on demand, so open files stay constant as the
+ * journal grows.
+ */
+public class TransactionJournal implements AutoCloseable {
+    private static final int RECORD_SIZE = 64;
+    private static final byte OPEN = 1;
+    private static final byte TRANSFER = 2;
+    private static final long NO_RECORD = -1L;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FileChannel accountNames;
+    private int segmentCount;
+    private MappedByteBuffer current; // Mapping of the last segment; its channel is already closed
+
+    private final Map<String, Integer> accountIds = new HashMap<>();
+    private String[] names = new String[16];
+    private long[] balances = new long[16];
+    private long[] heads = new long[16];
+
+    private long nextSeq = 1;
+    private long writtenSeq = 0;
+    private long durableSeq = 0;
+    private volatile boolean closed;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pending = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final Thread flusher;
+
+    private TransactionJournal(Path directory, int segmentSize) throws IOException {
+        if (segmentSize % RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("Segment size must be a multiple of " + RECORD_SIZE);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        this.accountNames = FileChannel.open(directory.resolve("accounts.log"),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        replay();
+        this.flusher = new Thread(this::flushLoop, "journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public static TransactionJournal open(Path directory, int segmentSize) throws IOException {
+        return new TransactionJournal(directory, segmentSize);
+    }
+
+    // --- Public API ---
+
+    public void createWallet(String name, double initialBalance) {
+        long seq;
+        lock.lock();
+        try {
+            ensureOpen();
+            if (accountIds.containsKey(name)) {
+                System.out.println("User " + name + " already exists.");
+                return;
+            }
+            int id = accountIds.size();
+            // The name must be durable before any record refers to its id.
+            writeName(id, name);
+            registerAccount(id, name);
+            seq = append(OPEN, -1, id, StripedLedger.toMinor(initialBalance));
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(seq);
+    }
+
+    /**
+     * Checks, applies and journals a transfer, returning once its record is on disk.
+     */
+    public boolean transferMoney(String fromUserName, String toUserName, double amount) {
+        long amountMinor = StripedLedger.toMinor(amount);
+        long seq;
+        lock.lock();
+        try {
+            ensureOpen();
+            Integer from = accountIds.get(fromUserName);
+            Integer to = accountIds.get(toUserName);
+            if (from == null || to == null || from.equals(to) || amountMinor <= 0 || balances[from] < amountMinor) {
+                return false;
+            }
+            seq = append(TRANSFER, from, to, amountMinor);
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(seq);
+        return true;
+    }
+
+    public double getBalance(String name) {
+        lock.lock();
+        try {
+            Integer id = accountIds.get(name);
+            return id == null ? 0.0 : StripedLedger.toMajor(balances[id]);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Walks the wallet's offset chain backwards, newest first, reading at most limit records.
+     */
+    public void printTransactionHistory(String userName, int limit) {
+        long offset;
+        int id;
+        lock.lock();
+        try {
+            Integer boxed = accountIds.get(userName);
+            if (boxed == null) {
+                System.out.println("User not found.");
+                return;
+            }
+            id = boxed;
+            offset = heads[id];
+        } finally {
+            lock.unlock();
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        for (int i = 0; i < limit && offset != NO_RECORD; i++) {
+            readRecord(offset, record);
+            byte type = record.get(8);
+            int fromId = record.getInt(12);
+            int toId = record.getInt(16);
+            double amount = StripedLedger.toMajor(record.getLong(24));
+            Date date = new Date(record.getLong(32));
+            if (type == OPEN) {
+                System.out.println(String.format("[%s] OPEN with %.2f", date, amount));
+                offset = record.getLong(48);
+            } else if (fromId == id) {
+                System.out.println(String.format("[%s] DEBIT of %.2f. Desc: Sent to %s", date, amount, nameOf(toId)));
+                offset = record.getLong(40);
+            } else {
+                System.out.println(String.format("[%s] CREDIT of %.2f. Desc: Received from %s", date, amount, nameOf(fromId)));
+                offset = record.getLong(48);
+            }
+        }
+    }
+
+    public void printAllBalances() {
+        lock.lock();
+        try {
+            System.out.println("  Current Balances:");
+            for (int id = 0; id < accountIds.size(); id++) {
+                System.out.println("    - " + names[id] + ": " + String.format("%.2f", StripedLedger.toMajor(balances[id])));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            pending.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        current.force();
+        accountNames.close();
+    }
+
+    // Appends after close would wait forever for a flusher that has already exited
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed.");
+        }
+    }
+
+    // --- Record layout: seq | type,from | to | amount | timestamp | prevFrom | prevTo | crc ---
+
+    private long append(byte type, int fromId, int toId, long amountMinor) {
+        if (!current.hasRemaining()) {
+            rollSegment();
+        }
+        long offset = (long) (segmentCount - 1) * segmentSize + current.position();
+        long seq = nextSeq++;
+        int start = current.position();
+        current.putLong(seq);
+        current.put(type).put((byte) 0).putShort((short) 0).putInt(fromId);
+        current.putInt(toId).putInt(0);
+        current.putLong(amountMinor);
+        current.putLong(System.currentTimeMillis());
+        current.putLong(fromId >= 0 ? heads[fromId] : NO_RECORD);
+        current.putLong(heads[toId]);
+        current.putLong(checksum(current, start));
+
+        apply(type, fromId, toId, amountMinor, offset);
+        writtenSeq = seq;
+        pending.signal();
+        return seq;
+    }
+
+    private void apply(byte type, int fromId, int toId, long amountMinor, long offset) {
+        if (type == TRANSFER) {
+            balances[fromId] -= amountMinor;
+            heads[fromId] = offset;
+        }
+        balances[toId] += amountMinor;
+        heads[toId] = offset;
+    }
+
+    private static long checksum(ByteBuffer buffer, int start) {
+        CRC32 crc = new CRC32();
+        ByteBuffer body = buffer.duplicate();
+        body.position(start).limit(start + RECORD_SIZE - 8);
+        crc.update(body);
+        return crc.getValue();
+    }
+
+    private void readRecord(long offset, ByteBuffer record) {
+        int index = (int) (offset / segmentSize);
+        int position = (int) (offset % segmentSize);
+        record.clear();
+        lock.lock();
+        try {
+            if (index == segmentCount - 1) {
+                // Still being written, so read it from the mapping
+                ByteBuffer source = current.duplicate();
+                source.position(position).limit(position + RECORD_SIZE);
+                record.put(source);
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        // Sealed segments never change, so they are read without the lock
+        try (FileChannel segment = FileChannel.open(segmentPath(index), StandardOpenOption.READ)) {
+            while (record.hasRemaining()) {
+                if (segment.read(record, position + record.position()) < 0) {
+                    throw new IOException("Journal truncated at offset " + offset);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // --- Segments ---
+
+    private Path segmentPath(int index) {
+        return directory.resolve(String.format("journal-%05d.seg", index));
+    }
+
+    private void rollSegment() {
+        try {
+            if (current != null) {
+                current.force();
+            }
+            // The mapping stays valid after its channel is closed
+            try (FileChannel channel = FileChannel.open(segmentPath(segmentCount),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                current = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            }
+            segmentCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Rebuilds balances and history heads from disk. The first record with a wrong
+     * sequence number or checksum marks the end of the log; anything after it was
+     * never acknowledged to a caller.
+     */
+    private void replay() throws IOException {
+        for (String line : Files.readAllLines(directory.resolve("accounts.log"), StandardCharsets.UTF_8)) {
+            int space = line.indexOf(' ');
+            registerAccount(Integer.parseInt(line.substring(0, space)), line.substring(space + 1));
+        }
+        while (Files.exists(segmentPath(segmentCount))) {
+            rollSegment();
+            while (current.hasRemaining()) {
+                int start = current.position();
+                if (current.getLong(start) != nextSeq || current.getLong(start + 56) != checksum(current, start)) {
+                    writtenSeq = durableSeq = nextSeq - 1;
+                    return;
+                }
+                long offset = (long) (segmentCount - 1) * segmentSize + start;
+                apply(current.get(start + 8), current.getInt(start + 12), current.getInt(start + 16), current.getLong(start + 24), offset);
+                current.position(start + RECORD_SIZE);
+                nextSeq++;
+            }
+        }
+        if (current == null) {
+            rollSegment();
+        }
+        writtenSeq = durableSeq = nextSeq - 1;
+    }
+
+    private void registerAccount(int id, String name) {
+        if (id >= names.length) {
+            int capacity = Math.max(id + 1, names.length * 2);
+            names = Arrays.copyOf(names, capacity);
+            balances = Arrays.copyOf(balances, capacity);
+            heads = Arrays.copyOf(heads, capacity);
+        }
+        names[id] = name;
+        heads[id] = NO_RECORD;
+        accountIds.put(name, id);
+    }
+
+    private void writeName(int id, String name) {
+        try {
+            ByteBuffer line = ByteBuffer.wrap((id + " " + name + "\n").getBytes(StandardCharsets.UTF_8));
+            long position = accountNames.size();
+            while (line.hasRemaining()) {
+                position += accountNames.write(line, position);
+            }
+            accountNames.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String nameOf(int id) {
+        lock.lock();
+        try {
+            return names[id];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // --- Group commit ---
+
+    private void awaitDurable(long seq) {
+        lock.lock();
+        try {
+            while (durableSeq < seq) {
+                flushed.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            MappedByteBuffer segment;
+            long target;
+            lock.lock();
+            try {
+                while (writtenSeq == durableSeq && !closed) {
+                    pending.awaitUninterruptibly();
+                }
+                if (writtenSeq == durableSeq) {
+                    return; // closed and fully flushed
+                }
+                // Earlier segments were forced when they were rolled, so forcing the
+                // current one makes every record up to target durable.
+                segment = current;
+                target = writtenSeq;
+            } finally {
+                lock.unlock();
+            }
+            segment.force();
+            lock.lock();
+            try {
+                durableSeq = target;
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // --- Demo: concurrent transfers, restart, replay ---
+
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("wallet-journal");
+        String[] users = {"Tushit", "Ankit", "Deepak"};
+
+        try (TransactionJournal journal = TransactionJournal.open(directory, 64 * 1024)) {
+            for (String user : users) {
+                journal.createWallet(user, 1000.0);
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(16);
+            long begin = System.nanoTime();
+            for (int i = 0; i < 20_000; i++) {
+                executor.execute(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    journal.transferMoney(users[random.nextInt(3)], users[random.nextInt(3)], 1.0);
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+            System.out.println("--- Before restart (" + journal.segmentCount + " segments, " + elapsedMillis + " ms) ---");
+            journal.printAllBalances();
+        }
+
+        TransactionJournal journal = TransactionJournal.open(directory, 64 * 1024);
+        try {
+            System.out.println("\n--- After replay ---");
+            journal.printAllBalances();
+
+            System.out.println("\n--- Tushit's 5 most recent transactions ---");
+            journal.printTransactionHistory("Tushit", 5);
+        } finally {
+            journal.close();
+        }
+
+        System.out.println("\n--- Transfer after close ---");
+        try {
+            journal.transferMoney("Tushit", "Ankit", 1.0);
+        } catch (IllegalStateException e) {
+            System.out.println("Rejected: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,3 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+enum TransactionType { DEBIT, CREDIT }
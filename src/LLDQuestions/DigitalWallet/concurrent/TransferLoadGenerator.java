@@ -0,0 +1,80 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An open-loop load generator for WalletService. Transfers are submitted on a fixed
+ * schedule at the offered rate regardless of how fast they complete, and each one is
+ * timed from its scheduled start, so queueing shows up in the percentiles instead of
+ * silently slowing the generator down.
+ *
+ * Usage: TransferLoadGenerator [durationSeconds] [rate1 rate2 ...]
+ */
+public class TransferLoadGenerator {
+    private static final int WALLETS = 100;
+    private static final int HOT_WALLETS = 4;
+
+    public static void main(String[] args) throws InterruptedException {
+        int durationSeconds = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+        int[] rates = {10_000, 50_000, 100_000};
+        if (args.length > 1) {
+            rates = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                rates[i - 1] = Integer.parseInt(args[i]);
+            }
+        }
+
+        for (int rate : rates) {
+            System.out.println(String.format("--- Offered rate %,d transfers/sec for %ds ---", rate, durationSeconds));
+
+            System.out.println("  Fixed pool of 10 platform threads:");
+            ExecutorService pool = Executors.newFixedThreadPool(10);
+            run(new WalletService(pool), pool, rate, durationSeconds);
+
+            ExecutorService virtual = WalletService.newVirtualThreadPerTaskExecutor();
+            // Before Java 21 the factory falls back to a cached pool; say which one ran
+            System.out.println(virtual instanceof ThreadPoolExecutor
+                ? "  Platform thread per transfer (virtual threads need Java 21):"
+                : "  Virtual thread per transfer:");
+            run(new WalletService(virtual), virtual, rate, durationSeconds);
+        }
+    }
+
+    private static void run(WalletService walletService, ExecutorService executor, int rate, int durationSeconds)
+            throws InterruptedException {
+        for (int i = 0; i < WALLETS; i++) {
+            walletService.createWallet("user-" + i, 1_000_000.0);
+        }
+
+        long intervalNanos = 1_000_000_000L / rate;
+        long total = (long) rate * durationSeconds;
+        long begin = System.nanoTime();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long submitted = 0;
+        for (long n = 0; n < total; n++) {
+            long intended = begin + n * intervalNanos;
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            // Half of the traffic hits a handful of hot wallets, which is where convoys form
+            int from = random.nextBoolean() ? random.nextInt(HOT_WALLETS) : random.nextInt(WALLETS);
+            int to = random.nextInt(WALLETS);
+            if (from != to) {
+                walletService.transferMoney("user-" + from, "user-" + to, 1.0, intended);
+                submitted++;
+            }
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        double achieved = submitted * 1_000_000_000.0 / (System.nanoTime() - begin);
+        System.out.println(String.format("    achieved   : %,.0f transfers/sec", achieved));
+        walletService.getMetrics().print();
+    }
+}
@@ -0,0 +1,30 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+// Per-phase latency of every transfer, in nanoseconds
+class TransferMetrics {
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram lockWait = new LatencyHistogram();
+    private final LatencyHistogram commit = new LatencyHistogram();
+    private final LatencyHistogram endToEnd = new LatencyHistogram();
+
+    void record(long queueNanos, long lockNanos, long commitNanos) {
+        queueWait.record(queueNanos);
+        lockWait.record(lockNanos);
+        commit.record(commitNanos);
+        endToEnd.record(queueNanos + lockNanos + commitNanos);
+    }
+
+    public void reset() {
+        queueWait.reset();
+        lockWait.reset();
+        commit.reset();
+        endToEnd.reset();
+    }
+
+    public void print() {
+        System.out.println("    queue wait : " + queueWait.summarizeMicros());
+        System.out.println("    lock wait  : " + lockWait.summarizeMicros());
+        System.out.println("    commit     : " + commit.summarizeMicros());
+        System.out.println("    end-to-end : " + endToEnd.summarizeMicros());
+    }
+}
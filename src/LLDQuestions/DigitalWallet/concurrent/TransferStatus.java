@@ -0,0 +1,3 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+enum TransferStatus { APPLIED, INVALID, INSUFFICIENT_FUNDS, ABORTED }
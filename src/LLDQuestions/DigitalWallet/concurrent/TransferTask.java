@@ -0,0 +1,54 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+class TransferTask implements Runnable {
+    private final User fromUser;
+    private final User toUser;
+    private final double amount;
+    private final long enqueuedNanos;
+    private final TransferMetrics metrics;
+
+    public TransferTask(User fromUser, User toUser, double amount, long enqueuedNanos, TransferMetrics metrics) {
+        this.fromUser = fromUser;
+        this.toUser = toUser;
+        this.amount = amount;
+        this.enqueuedNanos = enqueuedNanos;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void run() {
+        long started = System.nanoTime();
+
+        // To prevent deadlock, we establish a consistent lock acquisition order.
+        User first = fromUser.getName().compareTo(toUser.getName()) < 0 ? fromUser : toUser;
+        User second = first == fromUser ? toUser : fromUser;
+
+        // Acquire locks in the defined order
+        first.getWallet().getLock().lock();
+        second.getWallet().getLock().lock();
+        long locked = System.nanoTime();
+
+        try {
+            // Perform the check and act atomically
+            if (fromUser.getWallet().getBalance() >= amount) {
+                fromUser.getWallet().withdraw(amount);
+                toUser.getWallet().deposit(amount);
+
+                // Add transaction records
+                String fromDesc = "Sent to " + toUser.getName();
+                fromUser.getWallet().addTransaction(new Transaction(amount, TransactionType.DEBIT, fromDesc));
+                String toDesc = "Received from " + fromUser.getName();
+                toUser.getWallet().addTransaction(new Transaction(amount, TransactionType.CREDIT, toDesc));
+                
+                // System.out.println("Success: " + fromUser.getName() + " -> " + toUser.getName() + ": " + amount);
+            } else {
+                // System.out.println("Failed (insufficient funds): " + fromUser.getName() + " -> " + toUser.getName());
+            }
+        } finally {
+            // ALWAYS release locks in the reverse order of acquisition in a finally block
+            second.getWallet().getLock().unlock();
+            first.getWallet().getLock().unlock();
+            metrics.record(started - enqueuedNanos, locked - started, System.nanoTime() - locked);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+class User {
+    private final String name; // Use name as a unique, comparable ID
+    private final Wallet wallet;
+
+    public User(String name, double initialBalance) {
+        this.name = name;
+        this.wallet = new Wallet(initialBalance);
+    }
+    public String getName() { return name; }
+    public Wallet getWallet() { return wallet; }
+}
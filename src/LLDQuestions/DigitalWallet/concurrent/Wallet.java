@@ -0,0 +1,24 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+class Wallet {
+    private double balance;
+    private final List<Transaction> transactions;
+    private final Lock lock = new ReentrantLock(); // Each wallet has its own lock
+
+    public Wallet(double initialBalance) {
+        this.balance = initialBalance;
+        this.transactions = new ArrayList<>();
+    }
+    
+    public Lock getLock() { return lock; }
+    public double getBalance() { return balance; }
+    public void deposit(double amount) { this.balance += amount; }
+    public void withdraw(double amount) { this.balance -= amount; }
+    public void addTransaction(Transaction t) { this.transactions.add(t); }
+    public List<Transaction> getTransactions() { return transactions; }
+}
@@ -0,0 +1,180 @@
+package LLDQuestions.DigitalWallet.concurrent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class WalletService {
+    private final Map<String, User> userAccounts = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final TransferMetrics metrics = new TransferMetrics();
+
+    public WalletService(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a WalletService that runs every transfer on its own virtual thread, so
+     * a transfer blocked on a wallet lock never holds a pool slot hostage. On a JDK
+     * without virtual threads (before 21) it falls back to a platform thread per task.
+     */
+    public static WalletService withVirtualThreads() {
+        return new WalletService(newVirtualThreadPerTaskExecutor());
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public TransferMetrics getMetrics() { return metrics; }
+
+    public void createWallet(String name, double initialBalance) {
+        userAccounts.put(name, new User(name, initialBalance));
+    }
+
+    /**
+     * Submits a transfer task to the executor service for asynchronous processing.
+     */
+    public void transferMoney(String fromUserName, String toUserName, double amount) {
+        User fromUser = userAccounts.get(fromUserName);
+        User toUser = userAccounts.get(toUserName);
+
+        if (fromUser == null || toUser == null || amount <= 0) {
+            System.out.println("Invalid transfer request.");
+            return;
+        }
+        // Create a task for the transfer and submit it to the thread pool
+        executor.submit(new TransferTask(fromUser, toUser, amount, System.nanoTime(), metrics));
+    }
+
+    /**
+     * Submits a transfer whose queue wait is measured from intendedStartNanos rather
+     * than from now, so a load generator that falls behind its schedule still charges
+     * the delay to the transfer (no coordinated omission).
+     */
+    void transferMoney(String fromUserName, String toUserName, double amount, long intendedStartNanos) {
+        User fromUser = userAccounts.get(fromUserName);
+        User toUser = userAccounts.get(toUserName);
+        if (fromUser == null || toUser == null || amount <= 0) {
+            return;
+        }
+        executor.submit(new TransferTask(fromUser, toUser, amount, intendedStartNanos, metrics));
+    }
+
+    /**
+     * Applies a batch of transfers synchronously, with per-item failures. Accepted items
+     * commit together as one atomic step; rejected items are reported and skipped.
+     */
+    public BatchResult transferBatch(List<TransferRequest> requests) {
+        return transferBatch(requests, false);
+    }
+
+    /**
+     * Applies a batch of transfers synchronously. Every involved wallet is locked exactly
+     * once, in name order (the same order TransferTask uses), and the accepted transfers
+     * are netted per account pair, in both directions, so each wallet is mutated once. With allOrNothing set,
+     * a single rejected item rolls back the whole batch.
+     */
+    public BatchResult transferBatch(List<TransferRequest> requests, boolean allOrNothing) {
+        BatchResult result = new BatchResult(requests.size());
+
+        // 1. Resolve users and collect the lock set, ordered by name
+        TreeMap<String, User> involved = new TreeMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            TransferRequest request = requests.get(i);
+            User fromUser = userAccounts.get(request.getFrom());
+            User toUser = userAccounts.get(request.getTo());
+            if (fromUser == null || toUser == null || fromUser == toUser || request.getAmount() <= 0) {
+                result.reject(i, TransferStatus.INVALID);
+                continue;
+            }
+            involved.put(fromUser.getName(), fromUser);
+            involved.put(toUser.getName(), toUser);
+        }
+
+        for (User user : involved.values()) {
+            user.getWallet().getLock().lock();
+        }
+        result.setLocksAcquired(involved.size());
+        try {
+            // 2. Admit items in submission order against running balances
+            Map<String, Double> deltas = new HashMap<>();
+            // Keyed by the pair's lower name, then the higher; positive means lower pays higher
+            Map<String, Map<String, Double>> netted = new TreeMap<>();
+            Map<String, Map<String, Integer>> counts = new TreeMap<>();
+            for (int i = 0; i < requests.size(); i++) {
+                if (result.getStatus(i) != null) {
+                    continue;
+                }
+                TransferRequest request = requests.get(i);
+                double available = involved.get(request.getFrom()).getWallet().getBalance() + deltas.getOrDefault(request.getFrom(), 0.0);
+                if (available < request.getAmount()) {
+                    result.reject(i, TransferStatus.INSUFFICIENT_FUNDS);
+                    continue;
+                }
+                deltas.merge(request.getFrom(), -request.getAmount(), Double::sum);
+                deltas.merge(request.getTo(), request.getAmount(), Double::sum);
+                boolean forward = request.getFrom().compareTo(request.getTo()) < 0;
+                String low = forward ? request.getFrom() : request.getTo();
+                String high = forward ? request.getTo() : request.getFrom();
+                netted.computeIfAbsent(low, k -> new TreeMap<>()).merge(high, forward ? request.getAmount() : -request.getAmount(), Double::sum);
+                counts.computeIfAbsent(low, k -> new TreeMap<>()).merge(high, 1, Integer::sum);
+                result.accept(i);
+            }
+
+            if (allOrNothing && result.getFailed() > 0) {
+                result.abort();
+                return result;
+            }
+
+            // 3. Commit: one deposit/withdraw per wallet, one transaction per netted pair
+            deltas.forEach((name, delta) -> {
+                User user = involved.get(name);
+                if (delta > 0) {
+                    user.getWallet().deposit(delta);
+                } else if (delta < 0) {
+                    user.getWallet().withdraw(-delta);
+                }
+            });
+            netted.forEach((low, targets) -> targets.forEach((high, net) -> {
+                if (net == 0) {
+                    return; // Transfers both ways cancelled out
+                }
+                String from = net > 0 ? low : high;
+                String to = net > 0 ? high : low;
+                int n = counts.get(low).get(high);
+                involved.get(from).getWallet().addTransaction(new Transaction(Math.abs(net), TransactionType.DEBIT, "Batch: sent to " + to + " (" + n + " transfers)"));
+                involved.get(to).getWallet().addTransaction(new Transaction(Math.abs(net), TransactionType.CREDIT, "Batch: received from " + from + " (" + n + " transfers)"));
+            }));
+            return result;
+        } finally {
+            for (User user : involved.descendingMap().values()) {
+                user.getWallet().getLock().unlock();
+            }
+        }
+    }
+
+    public void printTransactionHistory(String userName) {
+        User user = userAccounts.get(userName);
+        if (user != null) {
+            user.getWallet().getTransactions().forEach(System.out::println);
+        }
+    }
+
+    public void printAllBalances() {
+        System.out.println("  Current Balances:");
+        userAccounts.values().stream()
+            .sorted((u1, u2) -> u1.getName().compareTo(u2.getName()))
+            .forEach(user -> System.out.println(
+                "    - " + user.getName() + ": " + String.format("%.2f", user.getWallet().getBalance())
+            ));
+    }
+}
@@ -0,0 +1,8 @@
+package LLDQuestions.HotelManagement;
+
+class Guest {
+    private String id;
+    private String name;
+    public Guest(String id, String name) { this.id = id; this.name = name; }
+    public String getId() { return id; }
+}
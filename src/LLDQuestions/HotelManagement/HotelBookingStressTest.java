@@ -0,0 +1,87 @@
+package LLDQuestions.HotelManagement;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thousands of guests race to book a handful of rooms over overlapping dates.
+ * Afterwards no room may hold two overlapping active reservations, and every
+ * successful booking must be in its room's calendar.
+ */
+public class HotelBookingStressTest {
+    private static final long DAY = 24L * 60 * 60 * 1000;
+
+    private final ReservationService reservationService = new ReservationService();
+    private final int rooms;
+    private final int bookers;
+    private final int attemptsPerBooker;
+    private final AtomicInteger successes = new AtomicInteger();
+
+    public HotelBookingStressTest(int rooms, int bookers, int attemptsPerBooker) {
+        this.rooms = rooms;
+        this.bookers = bookers;
+        this.attemptsPerBooker = attemptsPerBooker;
+    }
+
+    void test() throws InterruptedException {
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(bookers);
+        for (int b = 0; b < bookers; b++) {
+            String guestId = "GUEST-" + b;
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    ready.await();
+                    for (int i = 0; i < attemptsPerBooker; i++) {
+                        int room = 100 + random.nextInt(rooms);
+                        long checkIn = start + random.nextInt(30) * DAY;
+                        long checkOut = checkIn + (1 + random.nextInt(4)) * DAY;
+                        if (reservationService.createReservation(guestId, room, new Date(checkIn), new Date(checkOut)) != null) {
+                            successes.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await();
+        executor.shutdown();
+
+        int stored = 0;
+        int overlaps = 0;
+        for (int room = 100; room < 100 + rooms; room++) {
+            List<Reservation> calendar = reservationService.getActiveReservations(room);
+            stored += calendar.size();
+            // The snapshot is sorted by check-in, so any overlap is between neighbours
+            for (int i = 1; i < calendar.size(); i++) {
+                if (calendar.get(i).getCheckInDate().before(calendar.get(i - 1).getCheckOutDate())) {
+                    overlaps++;
+                }
+            }
+        }
+
+        System.out.println(String.format("%,d booking attempts, %,d succeeded, %,d in calendars, %d overlaps",
+            bookers * attemptsPerBooker, successes.get(), stored, overlaps));
+        if (overlaps == 0 && stored == successes.get()) {
+            System.out.println("Test PASSED!");
+        } else {
+            System.err.println("Test FAILED: double bookings detected.");
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        // Parameters: rooms, concurrent bookers, booking attempts per booker
+        new HotelBookingStressTest(20, 5_000, 20).test();
+    }
+}
@@ -1,10 +1,14 @@
 package LLDQuestions.HotelManagement;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
 import java.util.stream.Collectors;
 
 /**
@@ -21,9 +25,10 @@ public class HotelManagementDemo {
         Date checkOutDate = new Date(checkInDate.getTime() + 2 * 24 * 60 * 60 * 1000); // 2 days later
         
         List<Room> availableRooms = hotel.searchRooms(RoomType.SINGLE, checkInDate, checkOutDate);
+        Reservation tushitReservation = null;
         if (!availableRooms.isEmpty()) {
             Room roomToBook = availableRooms.get(0);
-            hotel.bookRoom("GUEST-001", "Tushit", roomToBook.getRoomNumber(), checkInDate, checkOutDate);
+            tushitReservation = hotel.bookRoom("GUEST-001", "Tushit", roomToBook.getRoomNumber(), checkInDate, checkOutDate);
         }
         System.out.println();
 
@@ -37,63 +42,28 @@ public class HotelManagementDemo {
 
         // --- SCENARIO 3: Check-in and Check-out ---
         System.out.println("----- SCENARIO 3: Tushit checks in and later checks out -----");
-        // Assuming the reservation ID is known from the booking process
-        hotel.checkIn("RES-101"); 
-        hotel.checkOut("RES-101");
-    }
-}
-
-// --- Enums for Types and Statuses ---
-enum RoomType { SINGLE, DOUBLE, SUITE }
-enum RoomStatus { AVAILABLE, OCCUPIED, MAINTENANCE }
-enum ReservationStatus { CONFIRMED, CHECKED_IN, CHECKED_OUT, CANCELLED }
-
-// --- Models ---
-class Room {
-    private int roomNumber;
-    private RoomType type;
-    private RoomStatus status;
-
-    public Room(int roomNumber, RoomType type) {
-        this.roomNumber = roomNumber;
-        this.type = type;
-        this.status = RoomStatus.AVAILABLE;
-    }
-    public int getRoomNumber() { return roomNumber; }
-    public RoomType getType() { return type; }
-    public RoomStatus getStatus() { return status; }
-    public void setStatus(RoomStatus status) { this.status = status; }
-}
+        // The reservation ID comes back from the booking step
+        if (tushitReservation != null) {
+            hotel.checkIn(tushitReservation.getReservationId());
+            hotel.checkOut(tushitReservation.getReservationId());
+        }
+        System.out.println();
 
-class Guest {
-    private String id;
-    private String name;
-    public Guest(String id, String name) { this.id = id; this.name = name; }
-    public String getId() { return id; }
-}
+        // --- SCENARIO 4: Ankit books, looks the booking up by guest ID, then cancels ---
+        System.out.println("----- SCENARIO 4: Ankit books a SUITE, finds it by guest ID and cancels -----");
+        hotel.bookRoom("GUEST-002", "Ankit", 301, checkInDate, checkOutDate);
+        Reservation ankitReservation = hotel.findReservationsByGuest("GUEST-002").get(0);
+        System.out.println("Found " + ankitReservation.getReservationId() + " for GUEST-002 in room " + ankitReservation.getRoomNumber());
+        hotel.cancel(ankitReservation.getReservationId());
+        System.out.println();
 
-class Reservation {
-    private String reservationId;
-    private String guestId;
-    private int roomNumber;
-    private Date checkInDate;
-    private Date checkOutDate;
-    private ReservationStatus status;
-
-    public Reservation(String guestId, int roomNumber, Date checkInDate, Date checkOutDate) {
-        this.reservationId = "RES-" + (int)(Math.random() * 1000); // Simple ID generation
-        this.guestId = guestId;
-        this.roomNumber = roomNumber;
-        this.checkInDate = checkInDate;
-        this.checkOutDate = checkOutDate;
-        this.status = ReservationStatus.CONFIRMED;
+        // --- SCENARIO 5: A room added after opening shows up in searches ---
+        System.out.println("----- SCENARIO 5: The hotel adds SUITE 302 and Deepak books 301, then searches again -----");
+        hotel.addRoom(new Room(302, RoomType.SUITE));
+        hotel.bookRoom("GUEST-003", "Deepak", 301, checkInDate, checkOutDate);
+        System.out.println("SUITEs still free: " + hotel.searchRooms(RoomType.SUITE, checkInDate, checkOutDate)
+            .stream().map(Room::getRoomNumber).collect(Collectors.toList()));
     }
-    public String getReservationId() { return reservationId; }
-    public int getRoomNumber() { return roomNumber; }
-    public Date getCheckInDate() { return checkInDate; }
-    public Date getCheckOutDate() { return checkOutDate; }
-    public ReservationStatus getStatus() { return status; }
-    public void setStatus(ReservationStatus status) { this.status = status; }
 }
 
 // --- The Complex Subsystem Components ---
@@ -101,85 +71,94 @@ class Reservation {
 // 1. RoomService: Manages all rooms in the hotel.
 class RoomService {
     private Map<Integer, Room> rooms = new HashMap<>();
+    private Map<RoomType, List<Room>> roomsByType = new EnumMap<>(RoomType.class);
+    private RoomNightInventory inventory; // Set once the facade has built it
+    private IntFunction<RoomCalendar> calendars;
 
     public RoomService() {
-        rooms.put(101, new Room(101, RoomType.SINGLE));
-        rooms.put(102, new Room(102, RoomType.SINGLE));
-        rooms.put(201, new Room(201, RoomType.DOUBLE));
-        rooms.put(301, new Room(301, RoomType.SUITE));
+        addRoom(new Room(101, RoomType.SINGLE));
+        addRoom(new Room(102, RoomType.SINGLE));
+        addRoom(new Room(201, RoomType.DOUBLE));
+        addRoom(new Room(301, RoomType.SUITE));
     }
 
-    public Room findRoom(int roomNumber) {
-        return rooms.get(roomNumber);
+    public void addRoom(Room room) {
+        rooms.put(room.getRoomNumber(), room);
+        roomsByType.computeIfAbsent(room.getType(), t -> new ArrayList<>()).add(room);
+        if (inventory != null) {
+            inventory.addRoom(room, calendars); // Otherwise a bitset search would never list it
+        }
     }
 
-    public List<Room> search(RoomType type, List<Integer> unavailableRoomNumbers) {
-        return rooms.values().stream()
-            .filter(room -> room.getType() == type && !unavailableRoomNumbers.contains(room.getRoomNumber()))
-            .collect(Collectors.toList());
+    // Rooms added from now on are registered with the inventory too
+    public void attachInventory(RoomNightInventory inventory, IntFunction<RoomCalendar> calendars) {
+        this.inventory = inventory;
+        this.calendars = calendars;
     }
-}
-
-// 2. ReservationService: Manages all reservations.
-class ReservationService {
-    private Map<String, Reservation> reservations = new HashMap<>();
 
-    public Reservation createReservation(String guestId, int roomNumber, Date checkIn, Date checkOut) {
-        Reservation reservation = new Reservation(guestId, roomNumber, checkIn, checkOut);
-        reservations.put(reservation.getReservationId(), reservation);
-        return reservation;
+    public Room findRoom(int roomNumber) {
+        return rooms.get(roomNumber);
     }
 
-    public Reservation findReservation(String reservationId) {
-        // In a real system, you'd also need to find the reservation by room/guest
-        // For this demo, we assume we get the ID "RES-101" from the booking step.
-        // A simple hack to find the reservation for our demo.
-        return reservations.values().stream().findFirst().orElse(null);
+    public Collection<Room> getAllRooms() {
+        return rooms.values();
     }
 
-    public List<Integer> getUnavailableRooms(Date checkIn, Date checkOut) {
-        List<Integer> unavailable = new ArrayList<>();
-        for (Reservation res : reservations.values()) {
-            if (res.getStatus() != ReservationStatus.CANCELLED && res.getStatus() != ReservationStatus.CHECKED_OUT) {
-                // Simple overlap check
-                if (checkIn.before(res.getCheckOutDate()) && checkOut.after(res.getCheckInDate())) {
-                    unavailable.add(res.getRoomNumber());
-                }
-            }
-        }
-        return unavailable;
+    // Only rooms of the requested type are visited, and each check is a calendar lookup
+    public List<Room> search(RoomType type, IntPredicate isFree) {
+        return roomsByType.getOrDefault(type, List.of()).stream()
+            .filter(room -> isFree.test(room.getRoomNumber()))
+            .collect(Collectors.toList());
     }
 }
 
 // --- The Facade Class ---
 
 class HotelFacade {
+    private static final int INVENTORY_HORIZON_DAYS = 365;
+
     private RoomService roomService;
     private ReservationService reservationService;
+    private RoomNightInventory inventory;
 
     public HotelFacade() {
         this.roomService = new RoomService();
-        this.reservationService = new ReservationService();
+        this.inventory = new RoomNightInventory(roomService.getAllRooms(), new Date(), INVENTORY_HORIZON_DAYS);
+        this.reservationService = new ReservationService(inventory);
+        this.roomService.attachInventory(inventory, reservationService::calendarFor);
+    }
+
+    public void addRoom(Room room) {
+        roomService.addRoom(room);
+        System.out.println("Added " + room.getType() + " room " + room.getRoomNumber());
     }
 
     public List<Room> searchRooms(RoomType type, Date checkIn, Date checkOut) {
         System.out.println("Searching for " + type + " rooms...");
-        List<Integer> unavailableRooms = reservationService.getUnavailableRooms(checkIn, checkOut);
-        return roomService.search(type, unavailableRooms);
+        inventory.rollForward(new Date(), reservationService::calendarFor); // Once a day, the horizon moves on
+        if (inventory.covers(checkIn, checkOut)) {
+            return inventory.availableRooms(type, checkIn, checkOut);
+        }
+        // Stays beyond the bitset horizon fall back to the per-room calendars
+        return roomService.search(type, roomNumber -> reservationService.isAvailable(roomNumber, checkIn, checkOut));
     }
 
-    public void bookRoom(String guestId, String guestName, int roomNumber, Date checkIn, Date checkOut) {
+    public Reservation bookRoom(String guestId, String guestName, int roomNumber, Date checkIn, Date checkOut) {
         System.out.println("Booking room " + roomNumber + " for guest " + guestName);
-        reservationService.createReservation(guestId, roomNumber, checkIn, checkOut);
+        Reservation reservation = reservationService.createReservation(guestId, roomNumber, checkIn, checkOut);
+        if (reservation == null) {
+            System.out.println("Booking failed: room " + roomNumber + " is already reserved for those dates.");
+            return null;
+        }
         System.out.println("Booking confirmed!");
+        return reservation;
     }
 
     public void checkIn(String reservationId) {
         Reservation reservation = reservationService.findReservation(reservationId);
-        if (reservation != null && reservation.getStatus() == ReservationStatus.CONFIRMED) {
+        if (reservation != null && reservationService.transition(reservation, ReservationStatus.CONFIRMED, ReservationStatus.CHECKED_IN)) {
             Room room = roomService.findRoom(reservation.getRoomNumber());
             room.setStatus(RoomStatus.OCCUPIED);
-            reservation.setStatus(ReservationStatus.CHECKED_IN);
             System.out.println("Guest checked into room " + room.getRoomNumber());
         } else {
             System.out.println("Invalid reservation or guest already checked in.");
@@ -188,14 +167,25 @@ class HotelFacade {
 
     public void checkOut(String reservationId) {
         Reservation reservation = reservationService.findReservation(reservationId);
-        if (reservation != null && reservation.getStatus() == ReservationStatus.CHECKED_IN) {
+        if (reservation != null && reservationService.transition(reservation, ReservationStatus.CHECKED_IN, ReservationStatus.CHECKED_OUT)) {
             Room room = roomService.findRoom(reservation.getRoomNumber());
             room.setStatus(RoomStatus.AVAILABLE); // Or MAINTENANCE
-            reservation.setStatus(ReservationStatus.CHECKED_OUT);
             System.out.println("Guest checked out of room " + room.getRoomNumber());
         } else {
             System.out.println("Invalid reservation or guest not checked in.");
         }
     }
-}
 
+    public void cancel(String reservationId) {
+        Reservation reservation = reservationService.findReservation(reservationId);
+        if (reservation != null && reservationService.transition(reservation, ReservationStatus.CONFIRMED, ReservationStatus.CANCELLED)) {
+            System.out.println("Reservation " + reservationId + " cancelled; room " + reservation.getRoomNumber() + " is free again.");
+        } else {
+            System.out.println("Only a confirmed reservation that is not checked in can be cancelled.");
+        }
+    }
+
+    public List<Reservation> findReservationsByGuest(String guestId) {
+        return reservationService.findActiveByGuest(guestId);
+    }
+}
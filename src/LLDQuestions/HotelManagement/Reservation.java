@@ -0,0 +1,31 @@
+package LLDQuestions.HotelManagement;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+class Reservation {
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    private String reservationId;
+    private String guestId;
+    private int roomNumber;
+    private Date checkInDate;
+    private Date checkOutDate;
+    private volatile ReservationStatus status;
+
+    public Reservation(String guestId, int roomNumber, Date checkInDate, Date checkOutDate) {
+        this.reservationId = "RES-" + NEXT_ID.incrementAndGet(); // Unique even under concurrent bookings
+        this.guestId = guestId;
+        this.roomNumber = roomNumber;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+        this.status = ReservationStatus.CONFIRMED;
+    }
+    public String getReservationId() { return reservationId; }
+    public String getGuestId() { return guestId; }
+    public int getRoomNumber() { return roomNumber; }
+    public Date getCheckInDate() { return checkInDate; }
+    public Date getCheckOutDate() { return checkOutDate; }
+    public ReservationStatus getStatus() { return status; }
+    public void setStatus(ReservationStatus status) { this.status = status; }
+}
@@ -0,0 +1,34 @@
+package LLDQuestions.HotelManagement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Finished reservations. Nothing on the booking or search path reads from here;
+ * it only serves explicit lookups by ID or guest.
+ */
+class ReservationArchive {
+    private Map<String, Reservation> byId = new ConcurrentHashMap<>();
+    private Map<String, Queue<Reservation>> byGuest = new ConcurrentHashMap<>();
+
+    public void add(Reservation reservation) {
+        byId.put(reservation.getReservationId(), reservation);
+        byGuest.computeIfAbsent(reservation.getGuestId(), g -> new ConcurrentLinkedQueue<>()).add(reservation);
+    }
+
+    public Reservation find(String reservationId) {
+        return byId.get(reservationId);
+    }
+
+    public List<Reservation> findByGuest(String guestId) {
+        return new ArrayList<>(byGuest.getOrDefault(guestId, new ConcurrentLinkedQueue<>()));
+    }
+
+    public int size() {
+        return byId.size();
+    }
+}
@@ -0,0 +1,121 @@
+package LLDQuestions.HotelManagement;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// ReservationService: Manages all reservations.
+class ReservationService {
+    // Hot partitions: only reservations that still matter for availability and front-desk work
+    private Map<ReservationStatus, Map<String, Reservation>> active = new EnumMap<>(ReservationStatus.class);
+    private Map<String, Set<Reservation>> activeByGuest = new ConcurrentHashMap<>();
+    private Map<Integer, RoomCalendar> calendars = new ConcurrentHashMap<>(); // Active reservations per room
+    private ReservationArchive archive = new ReservationArchive(); // Cold segment: CHECKED_OUT and CANCELLED
+    private RoomNightInventory inventory; // Optional hotel-wide bitsets, written by the calendars
+
+    public ReservationService() {
+        this(null);
+    }
+
+    public ReservationService(RoomNightInventory inventory) {
+        this.inventory = inventory;
+        active.put(ReservationStatus.CONFIRMED, new ConcurrentHashMap<>());
+        active.put(ReservationStatus.CHECKED_IN, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Books the room if it is free for the whole stay, or returns null. The check and
+     * the insert happen under the room's own calendar lock, so two overlapping
+     * bookings for one room can't both succeed, while other rooms book in parallel.
+     */
+    public Reservation createReservation(String guestId, int roomNumber, Date checkIn, Date checkOut) {
+        if (!checkIn.before(checkOut)) {
+            throw new IllegalArgumentException("Check-out must be after check-in.");
+        }
+        Reservation reservation = new Reservation(guestId, roomNumber, checkIn, checkOut);
+        if (!calendarFor(roomNumber).reserveIfFree(reservation)) {
+            return null;
+        }
+        active.get(ReservationStatus.CONFIRMED).put(reservation.getReservationId(), reservation);
+        activeByGuest.computeIfAbsent(guestId, g -> ConcurrentHashMap.newKeySet()).add(reservation);
+        return reservation;
+    }
+
+    public RoomCalendar calendarFor(int roomNumber) {
+        return calendars.computeIfAbsent(roomNumber, n -> new RoomCalendar(n, inventory));
+    }
+
+    public List<Reservation> getActiveReservations(int roomNumber) {
+        RoomCalendar calendar = calendars.get(roomNumber);
+        return calendar == null ? List.of() : calendar.snapshot();
+    }
+
+    /**
+     * Moves a reservation from one status to another, or returns false if it is no
+     * longer in the expected status. The indexes move with it: a checked-out or
+     * cancelled stay leaves its room's calendar and the hot partitions for the archive.
+     */
+    public boolean transition(Reservation reservation, ReservationStatus from, ReservationStatus to) {
+        synchronized (reservation) {
+            if (reservation.getStatus() != from) {
+                return false;
+            }
+            // Always add to the destination before leaving the source, so findReservation never misses it
+            reservation.setStatus(to);
+            if (active.containsKey(to)) {
+                active.get(to).put(reservation.getReservationId(), reservation);
+                active.get(from).remove(reservation.getReservationId());
+                return true;
+            }
+            archive.add(reservation);
+            active.get(from).remove(reservation.getReservationId());
+        }
+
+        // Leaving the hot set for good
+        Set<Reservation> guestReservations = activeByGuest.get(reservation.getGuestId());
+        if (guestReservations != null) {
+            guestReservations.remove(reservation);
+        }
+        RoomCalendar calendar = calendars.get(reservation.getRoomNumber());
+        if (calendar != null) {
+            calendar.remove(reservation); // Frees the room's inventory bits under the calendar's lock
+        }
+        return true;
+    }
+
+    public boolean isAvailable(int roomNumber, Date checkIn, Date checkOut) {
+        RoomCalendar calendar = calendars.get(roomNumber);
+        return calendar == null || calendar.isFree(checkIn, checkOut);
+    }
+
+    /**
+     * Looks the ID up in the hot partitions first and only then in the archive.
+     */
+    public Reservation findReservation(String reservationId) {
+        for (Map<String, Reservation> partition : active.values()) {
+            Reservation reservation = partition.get(reservationId);
+            if (reservation != null) {
+                return reservation;
+            }
+        }
+        return archive.find(reservationId);
+    }
+
+    public List<Reservation> findActiveByGuest(String guestId) {
+        return new ArrayList<>(activeByGuest.getOrDefault(guestId, Set.of()));
+    }
+
+    public List<Reservation> findHistoryByGuest(String guestId) {
+        return archive.findByGuest(guestId);
+    }
+
+    // The active stay in this room on this date, via the room's calendar in O(log n)
+    public Reservation findReservation(int roomNumber, Date date) {
+        RoomCalendar calendar = calendars.get(roomNumber);
+        return calendar == null ? null : calendar.findAt(date);
+    }
+}
@@ -0,0 +1,3 @@
+package LLDQuestions.HotelManagement;
+
+enum ReservationStatus { CONFIRMED, CHECKED_IN, CHECKED_OUT, CANCELLED }
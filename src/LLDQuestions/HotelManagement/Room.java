@@ -0,0 +1,17 @@
+package LLDQuestions.HotelManagement;
+
+class Room {
+    private int roomNumber;
+    private RoomType type;
+    private RoomStatus status;
+
+    public Room(int roomNumber, RoomType type) {
+        this.roomNumber = roomNumber;
+        this.type = type;
+        this.status = RoomStatus.AVAILABLE;
+    }
+    public int getRoomNumber() { return roomNumber; }
+    public RoomType getType() { return type; }
+    public RoomStatus getStatus() { return status; }
+    public void setStatus(RoomStatus status) { this.status = status; }
+}
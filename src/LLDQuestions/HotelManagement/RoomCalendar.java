@@ -0,0 +1,132 @@
+package LLDQuestions.HotelManagement;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * The active reservations of one room, sorted by check-in time.
+ *
+ * A room can never hold two overlapping active reservations, so the intervals in
+ * the calendar are disjoint. The only reservation that can overlap [checkIn, checkOut)
+ * is then the last one starting before checkOut, which makes an availability check
+ * a single O(log n) lookup. Cancelled and checked-out stays are removed, so they
+ * never slow a search down.
+ *
+ * Each calendar is its own lock: every method synchronizes on it, so bookings for
+ * different rooms never contend, and reserveIfFree makes check-then-add atomic.
+ * The room's RoomNightInventory bits are refreshed under the same lock whenever
+ * reserveIfFree or remove changes the calendar.
+ */
+public class RoomCalendar {
+    private final NavigableMap<Long, Reservation> byCheckIn = new TreeMap<>();
+    private final int roomNumber;
+    private final RoomNightInventory inventory; // May be null
+
+    public RoomCalendar() {
+        this(-1, null);
+    }
+
+    public RoomCalendar(int roomNumber, RoomNightInventory inventory) {
+        this.roomNumber = roomNumber;
+        this.inventory = inventory;
+    }
+
+    public synchronized boolean isFree(Date checkIn, Date checkOut) {
+        Map.Entry<Long, Reservation> before = byCheckIn.lowerEntry(checkOut.getTime());
+        return before == null || before.getValue().getCheckOutDate().getTime() <= checkIn.getTime();
+    }
+
+    /**
+     * Returns the active reservation covering the given instant, or null.
+     */
+    public synchronized Reservation findAt(Date date) {
+        Map.Entry<Long, Reservation> entry = byCheckIn.floorEntry(date.getTime());
+        return entry != null && entry.getValue().getCheckOutDate().getTime() > date.getTime() ? entry.getValue() : null;
+    }
+
+    /**
+     * Returns the reservations overlapping [checkIn, checkOut) in O(log n + k).
+     */
+    public synchronized List<Reservation> overlapping(Date checkIn, Date checkOut) {
+        Long from = byCheckIn.floorKey(checkIn.getTime());
+        NavigableMap<Long, Reservation> candidates = byCheckIn.subMap(from == null ? Long.MIN_VALUE : from, true, checkOut.getTime(), false);
+        List<Reservation> result = new ArrayList<>();
+        for (Reservation reservation : candidates.values()) {
+            if (reservation.getCheckOutDate().getTime() > checkIn.getTime()) {
+                result.add(reservation);
+            }
+        }
+        return result;
+    }
+
+    public synchronized void add(Reservation reservation) {
+        // An empty stay would pass isFree and then replace the reservation starting at the same instant
+        if (!reservation.getCheckInDate().before(reservation.getCheckOutDate())) {
+            throw new IllegalArgumentException("Check-out must be after check-in.");
+        }
+        byCheckIn.put(reservation.getCheckInDate().getTime(), reservation);
+    }
+
+    /**
+     * Adds the reservation only if no active one overlaps it, as one atomic step.
+     */
+    public synchronized boolean reserveIfFree(Reservation reservation) {
+        if (!isFree(reservation.getCheckInDate(), reservation.getCheckOutDate())) {
+            return false;
+        }
+        add(reservation);
+        syncNights(reservation.getCheckInDate(), reservation.getCheckOutDate());
+        return true;
+    }
+
+    public synchronized void remove(Reservation reservation) {
+        if (byCheckIn.remove(reservation.getCheckInDate().getTime(), reservation)) {
+            syncNights(reservation.getCheckInDate(), reservation.getCheckOutDate());
+        }
+    }
+
+    /**
+     * Rewrites the room's inventory bits for the nights of [from, to) from this calendar.
+     */
+    public synchronized void syncNights(Date from, Date to) {
+        if (inventory != null) {
+            inventory.sync(roomNumber, from, to, this);
+        }
+    }
+
+    public synchronized List<Reservation> snapshot() {
+        return new ArrayList<>(byCheckIn.values());
+    }
+
+    public synchronized int size() {
+        return byCheckIn.size();
+    }
+
+    // --- Demo: a room with three years of back-to-back two-night stays ---
+
+    public static void main(String[] args) {
+        long day = 24L * 60 * 60 * 1000;
+        long start = System.currentTimeMillis();
+        RoomCalendar calendar = new RoomCalendar();
+        for (int night = 0; night < 3 * 365; night += 3) {
+            calendar.add(new Reservation("GUEST-" + night, 101, new Date(start + night * day), new Date(start + (night + 2) * day)));
+        }
+
+        int queries = 1_000_000;
+        int free = 0;
+        long begin = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            long checkIn = start + (i % (3 * 365)) * day;
+            if (calendar.isFree(new Date(checkIn), new Date(checkIn + day))) {
+                free++;
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+        System.out.println(String.format("%,d reservations, %,d one-night queries, %,d free, %.0fns per query",
+            calendar.size(), queries, free, (double) elapsed / queries));
+    }
+}
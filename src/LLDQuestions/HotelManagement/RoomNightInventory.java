@@ -0,0 +1,310 @@
+package LLDQuestions.HotelManagement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntFunction;
+
+/**
+ * Hotel-wide availability as bitsets: for every RoomType and every night in the
+ * horizon there is one bitset over that type's rooms, with a set bit meaning the
+ * room is free that night.
+ *
+ * "Which SUITEs are free for these nights" is a word-wise AND of the nights' bitsets,
+ * and "how many" is a popcount of the result, so a query touches
+ * nights x (rooms / 64) longs and never a Room or a Date. Bits are flipped with CAS,
+ * so bookings for different rooms can update the same word concurrently.
+ *
+ * The bitsets are derived from the room calendars, which stay the source of truth:
+ * a room seen free here can still lose the race to book it. A room's bits are only
+ * written by sync, from inside its calendar's lock, and are recomputed from every
+ * stay sharing those nights. So a late update can never undo a newer one, and two
+ * same-day stays sharing a night keep it booked until both are gone.
+ *
+ * The nights form a ring indexed by epoch day. rollForward moves the horizon to
+ * start at today, reusing the slots of past nights for the nights entering at the end.
+ *
+ * A room added after construction gets its bit through addRoom, which rebuilds its
+ * type's bitsets one room wider.
+ */
+public class RoomNightInventory {
+    private static final long DAY = 24L * 60 * 60 * 1000;
+
+    private final int horizonDays;
+    private final Map<RoomType, TypeInventory> byType = new ConcurrentHashMap<>();
+    private final Map<Integer, TypeInventory> typeOfRoom = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> ordinalOfRoom = new ConcurrentHashMap<>();
+    private volatile long firstDay; // Epoch day of the first night that may be written
+    private volatile long lastDay;  // Epoch day of the last night that may be read
+
+    public RoomNightInventory(Collection<Room> rooms, Date firstNight, int horizonDays) {
+        this.firstDay = Math.floorDiv(firstNight.getTime(), DAY);
+        this.lastDay = firstDay + horizonDays - 1;
+        this.horizonDays = horizonDays;
+
+        Map<RoomType, List<Room>> grouped = new EnumMap<>(RoomType.class);
+        for (Room room : rooms) {
+            grouped.computeIfAbsent(room.getType(), t -> new ArrayList<>()).add(room);
+        }
+        grouped.forEach((type, roomsOfType) -> {
+            TypeInventory inventory = new TypeInventory(roomsOfType, horizonDays);
+            byType.put(type, inventory);
+            for (int ordinal = 0; ordinal < roomsOfType.size(); ordinal++) {
+                typeOfRoom.put(roomsOfType.get(ordinal).getRoomNumber(), inventory);
+                ordinalOfRoom.put(roomsOfType.get(ordinal).getRoomNumber(), ordinal);
+            }
+        });
+    }
+
+    /**
+     * True if every night of the stay falls inside the horizon.
+     */
+    public boolean covers(Date checkIn, Date checkOut) {
+        long first = dayOf(checkIn);
+        return first >= firstDay && lastNightOf(first, checkOut) <= lastDay;
+    }
+
+    public Collection<Integer> getRoomNumbers() {
+        return typeOfRoom.keySet();
+    }
+
+    /**
+     * Recomputes the room's bits for the nights of [checkIn, checkOut) from its calendar.
+     * Must be called while holding the calendar's lock.
+     */
+    void sync(int roomNumber, Date checkIn, Date checkOut, RoomCalendar calendar) {
+        TypeInventory inventory = typeOfRoom.get(roomNumber);
+        if (inventory == null) {
+            return;
+        }
+        long writableFirst = firstDay;
+        long first = Math.max(writableFirst, dayOf(checkIn));
+        long last = Math.min(writableFirst + horizonDays - 1, lastNightOf(dayOf(checkIn), checkOut));
+        if (first > last) {
+            return;
+        }
+        boolean[] booked = new boolean[(int) (last - first + 1)];
+        // Any stay holding one of these nights overlaps the days around them
+        for (Reservation stay : calendar.overlapping(new Date(first * DAY), new Date((last + 1) * DAY))) {
+            long stayFirst = dayOf(stay.getCheckInDate());
+            long stayLast = lastNightOf(stayFirst, stay.getCheckOutDate());
+            for (long night = Math.max(first, stayFirst); night <= Math.min(last, stayLast); night++) {
+                booked[(int) (night - first)] = true;
+            }
+        }
+        int ordinal = ordinalOfRoom.get(roomNumber);
+        for (long night = first; night <= last; night++) {
+            inventory.set(slotOf(night), ordinal, !booked[(int) (night - first)]);
+        }
+    }
+
+    /**
+     * Registers a room that was not there at construction. Its type's bitsets are
+     * copied into ones with a bit more, and then every room of the type is re-synced
+     * from its calendar, so a booking that wrote to the old bitsets meanwhile is kept.
+     */
+    public synchronized void addRoom(Room room, IntFunction<RoomCalendar> calendars) {
+        if (typeOfRoom.containsKey(room.getRoomNumber())) {
+            return;
+        }
+        TypeInventory old = byType.get(room.getType());
+        List<Room> rooms = new ArrayList<>(old == null ? List.of() : old.rooms);
+        rooms.add(room);
+        TypeInventory grown = new TypeInventory(rooms, horizonDays);
+        if (old != null) {
+            grown.copyFrom(old);
+        }
+        // The ordinal goes in first: sync looks the type up, then the ordinal
+        ordinalOfRoom.put(room.getRoomNumber(), rooms.size() - 1);
+        byType.put(room.getType(), grown);
+        for (Room sameType : rooms) {
+            typeOfRoom.put(sameType.getRoomNumber(), grown);
+        }
+        for (Room sameType : rooms) {
+            calendars.apply(sameType.getRoomNumber()).syncNights(new Date(firstDay * DAY), new Date((firstDay + horizonDays) * DAY));
+        }
+    }
+
+    /**
+     * Moves the horizon forward to start on today's night. Nights that enter the horizon
+     * are rebuilt room by room from the calendars, and are only searchable once every
+     * room is done.
+     */
+    public synchronized void rollForward(Date today, IntFunction<RoomCalendar> calendars) {
+        long newFirst = Math.floorDiv(today.getTime(), DAY);
+        if (newFirst <= firstDay) {
+            return;
+        }
+        long enteringFrom = Math.max(lastDay + 1, newFirst);
+        long newLast = newFirst + horizonDays - 1;
+        firstDay = newFirst; // Past nights are no longer read or written from here on
+        for (int roomNumber : typeOfRoom.keySet()) {
+            calendars.apply(roomNumber).syncNights(new Date(enteringFrom * DAY), new Date((newLast + 1) * DAY));
+        }
+        lastDay = newLast;
+    }
+
+    public List<Room> availableRooms(RoomType type, Date checkIn, Date checkOut) {
+        TypeInventory inventory = byType.get(type);
+        List<Room> result = new ArrayList<>();
+        if (inventory == null) {
+            return result;
+        }
+        requireCovered(checkIn, checkOut);
+        long first = dayOf(checkIn);
+        long last = lastNightOf(first, checkOut);
+        for (int w = 0; w < inventory.words; w++) {
+            long free = freeAcross(inventory, w, first, last);
+            while (free != 0) {
+                result.add(inventory.rooms.get((w << 6) + Long.numberOfTrailingZeros(free)));
+                free &= free - 1;
+            }
+        }
+        return result;
+    }
+
+    public int countAvailable(RoomType type, Date checkIn, Date checkOut) {
+        TypeInventory inventory = byType.get(type);
+        if (inventory == null) {
+            return 0;
+        }
+        requireCovered(checkIn, checkOut);
+        long first = dayOf(checkIn);
+        long last = lastNightOf(first, checkOut);
+        int count = 0;
+        for (int w = 0; w < inventory.words; w++) {
+            count += Long.bitCount(freeAcross(inventory, w, first, last));
+        }
+        return count;
+    }
+
+    private long freeAcross(TypeInventory inventory, int word, long firstNight, long lastNight) {
+        long free = -1L;
+        for (long night = firstNight; night <= lastNight && free != 0; night++) {
+            free &= inventory.nights[slotOf(night)].get(word);
+        }
+        return free;
+    }
+
+    private void requireCovered(Date checkIn, Date checkOut) {
+        if (!covers(checkIn, checkOut)) {
+            throw new IllegalArgumentException("Stay is outside the " + horizonDays + "-night inventory horizon.");
+        }
+    }
+
+    private int slotOf(long day) {
+        return (int) Math.floorMod(day, (long) horizonDays);
+    }
+
+    private static long dayOf(Date date) {
+        return Math.floorDiv(date.getTime(), DAY);
+    }
+
+    // The night before the check-out day; a same-day stay still occupies one night
+    private static long lastNightOf(long firstNight, Date checkOut) {
+        return Math.max(firstNight, dayOf(checkOut) - 1);
+    }
+
+    private static class TypeInventory {
+        final List<Room> rooms; // Bit i is rooms.get(i)
+        final int words;
+        final AtomicLongArray[] nights; // By slot
+
+        TypeInventory(List<Room> rooms, int horizonDays) {
+            this.rooms = rooms;
+            this.words = (rooms.size() + 63) >>> 6;
+            this.nights = new AtomicLongArray[horizonDays];
+            for (int night = 0; night < horizonDays; night++) {
+                nights[night] = new AtomicLongArray(words);
+                for (int w = 0; w < words; w++) {
+                    nights[night].set(w, roomBits(w));
+                }
+            }
+        }
+
+        // The bits of word w that stand for a room
+        long roomBits(int w) {
+            int bitsInWord = Math.min(64, rooms.size() - (w << 6));
+            return bitsInWord == 64 ? -1L : (1L << bitsInWord) - 1;
+        }
+
+        // Takes the old rooms' bits from a narrower inventory; the new rooms stay free
+        void copyFrom(TypeInventory narrower) {
+            for (int night = 0; night < nights.length; night++) {
+                for (int w = 0; w < narrower.words; w++) {
+                    nights[night].set(w, narrower.nights[night].get(w) | (roomBits(w) & ~narrower.roomBits(w)));
+                }
+            }
+        }
+
+        void set(int slot, int ordinal, boolean free) {
+            AtomicLongArray bits = nights[slot];
+            int word = ordinal >>> 6;
+            long mask = 1L << ordinal;
+            long current;
+            long next;
+            do {
+                current = bits.get(word);
+                next = free ? current | mask : current & ~mask;
+            } while (!bits.compareAndSet(word, current, next));
+        }
+    }
+
+    // --- Demo: a 100k-room chain with a year of bookings ---
+
+    public static void main(String[] args) {
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            RoomType type = i % 10 == 0 ? RoomType.SUITE : i % 3 == 0 ? RoomType.DOUBLE : RoomType.SINGLE;
+            rooms.add(new Room(i, type));
+        }
+        Date today = new Date();
+        RoomNightInventory inventory = new RoomNightInventory(rooms, today, 365);
+        RoomCalendar[] calendars = new RoomCalendar[rooms.size()];
+        for (int i = 0; i < calendars.length; i++) {
+            calendars[i] = new RoomCalendar(i, inventory);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 1_000_000; i++) {
+            long checkIn = today.getTime() + random.nextInt(360) * DAY;
+            int room = random.nextInt(rooms.size());
+            calendars[room].reserveIfFree(new Reservation("GUEST-" + i, room, new Date(checkIn), new Date(checkIn + (1 + random.nextInt(5)) * DAY)));
+        }
+
+        Date checkIn = new Date(today.getTime() + 100 * DAY);
+        Date checkOut = new Date(checkIn.getTime() + 7 * DAY);
+        int queries = 10_000;
+        int found = 0;
+        long begin = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            found = inventory.countAvailable(RoomType.SUITE, checkIn, checkOut);
+        }
+        long countNanos = (System.nanoTime() - begin) / queries;
+        begin = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            found = inventory.availableRooms(RoomType.SUITE, checkIn, checkOut).size();
+        }
+        long listNanos = (System.nanoTime() - begin) / queries;
+
+        System.out.println(String.format("%,d SUITEs free for 7 nights out of %,d. Count: %,dns, list: %,dns per query",
+            found, rooms.size() / 10, countNanos, listNanos));
+
+        // A month later the horizon moves on, and the month beyond the old horizon is searchable
+        Date nextMonth = new Date(today.getTime() + 30 * DAY);
+        Date lateCheckIn = new Date(today.getTime() + 380 * DAY);
+        Date lateCheckOut = new Date(lateCheckIn.getTime() + DAY);
+        System.out.println("Night 380 covered before rolling: " + inventory.covers(lateCheckIn, lateCheckOut));
+        begin = System.nanoTime();
+        inventory.rollForward(nextMonth, room -> calendars[room]);
+        System.out.println(String.format("Rolled 30 nights forward in %,dms; night 380 covered: %s, SUITEs free that night: %,d",
+            (System.nanoTime() - begin) / 1_000_000, inventory.covers(lateCheckIn, lateCheckOut),
+            inventory.countAvailable(RoomType.SUITE, lateCheckIn, lateCheckOut)));
+    }
+}
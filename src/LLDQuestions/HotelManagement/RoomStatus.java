@@ -0,0 +1,3 @@
+package LLDQuestions.HotelManagement;
+
+enum RoomStatus { AVAILABLE, OCCUPIED, MAINTENANCE }
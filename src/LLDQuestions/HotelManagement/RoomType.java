@@ -0,0 +1,3 @@
+package LLDQuestions.HotelManagement;
+
+enum RoomType { SINGLE, DOUBLE, SUITE }
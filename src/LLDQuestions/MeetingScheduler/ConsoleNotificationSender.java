@@ -0,0 +1,13 @@
+package LLDQuestions.MeetingScheduler;
+
+import java.util.List;
+
+/**
+ * Prints notifications, standing in for email or push.
+ */
+class ConsoleNotificationSender implements NotificationSender {
+    @Override
+    public void send(User recipient, List<String> messages) {
+        System.out.println("  Notifying " + recipient.getName() + ": " + String.join("; ", messages));
+    }
+}
@@ -0,0 +1,302 @@
+package LLDQuestions.MeetingScheduler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Free/busy bitmaps for every user and room, at 15-minute granularity.
+ *
+ * Time is cut into slots numbered from the epoch, and each resource keeps a sparse
+ * map of 64-slot words (16 hours per word) with a bit set for every busy slot.
+ * findSlots copies the query window out of each attendee's bitmap and ORs them into
+ * one busy mask, then for every big-enough room ORs in the room's bits, inverts, and
+ * keeps the positions where `duration` free slots start in a row. The work is
+ * (attendees + rooms) x window words, with no per-meeting comparisons at all.
+ *
+ * A resource's bitmap is only marked or cleared while the scheduler holds that
+ * resource's lock; the maps are concurrent so findSlots can read them without taking any.
+ *
+ * Recurring meetings are not written into the bitmaps, which would mean marking every
+ * occurrence up front; findSlots ORs in only the occurrences inside the query window.
+ */
+public class FreeBusyEngine {
+    public static final long SLOT_MILLIS = 15L * 60 * 1000;
+
+    private final Map<String, SlotBitmap> userBusy = new ConcurrentHashMap<>();
+    private final Map<String, SlotBitmap> roomBusy = new ConcurrentHashMap<>();
+    private final Map<String, List<MeetingSeries>> userSeries = new ConcurrentHashMap<>();
+    private final Map<String, List<MeetingSeries>> roomSeries = new ConcurrentHashMap<>();
+
+    public void markBusy(Meeting meeting) {
+        long from = Math.floorDiv(meeting.startTime.getTime(), SLOT_MILLIS);
+        long to = Math.floorDiv(meeting.endTime.getTime() + SLOT_MILLIS - 1, SLOT_MILLIS);
+        roomBusy.computeIfAbsent(meeting.room.getId(), id -> new SlotBitmap()).mark(from, to);
+        for (User attendee : meeting.attendees) {
+            userBusy.computeIfAbsent(attendee.getId(), id -> new SlotBitmap()).mark(from, to);
+        }
+    }
+
+    /**
+     * Frees a cancelled meeting's slots. Call it after the meeting has left the
+     * calendars: a slot it shared with a neighbouring meeting (9:00-9:10 and 9:10-9:20
+     * both fill the 9:00 slot) is marked busy again from what the calendars still hold.
+     */
+    public void markFree(Meeting meeting, IntervalIndex roomCalendar, Function<User, IntervalIndex> userCalendars) {
+        long from = Math.floorDiv(meeting.startTime.getTime(), SLOT_MILLIS);
+        long to = Math.floorDiv(meeting.endTime.getTime() + SLOT_MILLIS - 1, SLOT_MILLIS);
+        resync(roomBusy.get(meeting.room.getId()), from, to, roomCalendar);
+        for (User attendee : meeting.attendees) {
+            resync(userBusy.get(attendee.getId()), from, to, userCalendars.apply(attendee));
+        }
+    }
+
+    private static void resync(SlotBitmap bitmap, long from, long to, IntervalIndex calendar) {
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.clear(from, to);
+        for (Meeting remaining : calendar.singlesBetween(new Date(from * SLOT_MILLIS), new Date(to * SLOT_MILLIS))) {
+            long first = Math.floorDiv(remaining.startTime.getTime(), SLOT_MILLIS);
+            long last = Math.floorDiv(remaining.endTime.getTime() + SLOT_MILLIS - 1, SLOT_MILLIS);
+            bitmap.mark(Math.max(from, first), Math.min(to, last));
+        }
+    }
+
+    public void addSeries(MeetingSeries series) {
+        roomSeries.computeIfAbsent(series.room.getId(), id -> new CopyOnWriteArrayList<>()).add(series);
+        for (User attendee : series.attendees) {
+            userSeries.computeIfAbsent(attendee.getId(), id -> new CopyOnWriteArrayList<>()).add(series);
+        }
+    }
+
+    /**
+     * Returns up to maxResults of the earliest slot-aligned starts in [windowStart,
+     * windowEnd) at which every attendee is free for the whole duration, each paired
+     * with the smallest free room that seats at least roomCapacity.
+     */
+    public List<SlotSuggestion> findSlots(List<User> attendees, long durationMillis, Date windowStart, Date windowEnd,
+                                          int roomCapacity, Collection<Room> rooms, int maxResults) {
+        long firstSlot = Math.floorDiv(windowStart.getTime() + SLOT_MILLIS - 1, SLOT_MILLIS);
+        int slots = (int) (Math.floorDiv(windowEnd.getTime(), SLOT_MILLIS) - firstSlot);
+        int length = (int) ((durationMillis + SLOT_MILLIS - 1) / SLOT_MILLIS);
+        List<SlotSuggestion> result = new ArrayList<>();
+        if (slots < length || length <= 0) {
+            return result;
+        }
+
+        long[] attendeesBusy = new long[(slots + 63) >>> 6];
+        for (User attendee : attendees) {
+            SlotBitmap bitmap = userBusy.get(attendee.getId());
+            if (bitmap != null) {
+                bitmap.orInto(attendeesBusy, firstSlot, slots);
+            }
+            orOccurrences(userSeries.get(attendee.getId()), attendeesBusy, firstSlot, slots);
+        }
+
+        List<Room> candidates = new ArrayList<>();
+        List<long[]> startsByRoom = new ArrayList<>();
+        long[] anyRoom = new long[attendeesBusy.length];
+        rooms.stream()
+            .filter(room -> room.getCapacity() >= roomCapacity)
+            .sorted(Comparator.comparingInt(Room::getCapacity))
+            .forEach(room -> {
+                long[] busy = attendeesBusy.clone();
+                SlotBitmap bitmap = roomBusy.get(room.getId());
+                if (bitmap != null) {
+                    bitmap.orInto(busy, firstSlot, slots);
+                }
+                orOccurrences(roomSeries.get(room.getId()), busy, firstSlot, slots);
+                long[] starts = runStarts(busy, slots, length);
+                candidates.add(room);
+                startsByRoom.add(starts);
+                for (int w = 0; w < anyRoom.length; w++) {
+                    anyRoom[w] |= starts[w];
+                }
+            });
+
+        for (int slot = nextSetBit(anyRoom, 0); slot >= 0 && result.size() < maxResults; slot = nextSetBit(anyRoom, slot + 1)) {
+            for (int r = 0; r < candidates.size(); r++) {
+                if ((startsByRoom.get(r)[slot >>> 6] & (1L << slot)) != 0) {
+                    long start = (firstSlot + slot) * SLOT_MILLIS;
+                    result.add(new SlotSuggestion(new Date(start), new Date(start + durationMillis), candidates.get(r)));
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    // Marks the slots of every occurrence inside the window, expanding nothing outside it
+    private static void orOccurrences(List<MeetingSeries> seriesList, long[] window, long firstSlot, int slots) {
+        if (seriesList == null) {
+            return;
+        }
+        long from = firstSlot * SLOT_MILLIS;
+        long to = (firstSlot + slots) * SLOT_MILLIS;
+        for (MeetingSeries series : seriesList) {
+            for (Meeting occurrence : series.occurrencesBetween(from, to)) {
+                int first = (int) Math.max(0, Math.floorDiv(occurrence.startTime.getTime(), SLOT_MILLIS) - firstSlot);
+                int last = (int) Math.min(slots, Math.floorDiv(occurrence.endTime.getTime() + SLOT_MILLIS - 1, SLOT_MILLIS) - firstSlot);
+                for (int slot = first; slot < last; slot++) {
+                    window[slot >>> 6] |= 1L << slot;
+                }
+            }
+        }
+    }
+
+    /**
+     * Bit i of the result is set when slots i .. i+length-1 are all free. Runs are
+     * grown by doubling, so this is O(words x log length).
+     */
+    private static long[] runStarts(long[] busy, int slots, int length) {
+        long[] run = new long[busy.length];
+        for (int w = 0; w < busy.length; w++) {
+            run[w] = ~busy[w];
+        }
+        int tail = slots & 63;
+        if (tail != 0) {
+            run[run.length - 1] &= (1L << tail) - 1; // slots past the window are not free
+        }
+        for (int have = 1; have < length; ) {
+            int step = Math.min(have, length - have);
+            long[] shifted = shiftDown(run, step);
+            for (int w = 0; w < run.length; w++) {
+                run[w] &= shifted[w];
+            }
+            have += step;
+        }
+        return run;
+    }
+
+    // result bit i = bits bit (i + shift)
+    private static long[] shiftDown(long[] bits, int shift) {
+        long[] result = new long[bits.length];
+        int words = shift >>> 6;
+        int offset = shift & 63;
+        for (int w = 0; w + words < bits.length; w++) {
+            long low = bits[w + words] >>> offset;
+            long high = offset == 0 || w + words + 1 >= bits.length ? 0 : bits[w + words + 1] << (64 - offset);
+            result[w] = low | high;
+        }
+        return result;
+    }
+
+    private static int nextSetBit(long[] bits, int from) {
+        int w = from >>> 6;
+        if (w >= bits.length) {
+            return -1;
+        }
+        long word = bits[w] & (-1L << from);
+        while (word == 0) {
+            if (++w == bits.length) {
+                return -1;
+            }
+            word = bits[w];
+        }
+        return (w << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    // --- Demo: 200 busy attendees over a two-week window ---
+
+    public static void main(String[] args) {
+        long hour = 60L * 60 * 1000;
+        long now = Math.floorDiv(System.currentTimeMillis(), SLOT_MILLIS) * SLOT_MILLIS;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        FreeBusyEngine engine = new FreeBusyEngine();
+
+        List<Room> rooms = new ArrayList<>();
+        for (int r = 0; r < 20; r++) {
+            rooms.add(new Room("R" + r, "Room " + r, 4 + 4 * (r % 6)));
+        }
+        List<User> attendees = new ArrayList<>();
+        for (int u = 0; u < 200; u++) {
+            User user = new User("U" + u, "User " + u);
+            attendees.add(user);
+            // Each attendee has ~6 hours of meetings a day, spread at random
+            for (int m = 0; m < 14 * 6; m++) {
+                long start = now + random.nextInt(14 * 24 * 4) * SLOT_MILLIS;
+                engine.markBusy(new Meeting("M-" + u + "-" + m, user, List.of(user), rooms.get(random.nextInt(rooms.size())),
+                    new Date(start), new Date(start + hour)));
+            }
+        }
+
+        Date windowEnd = new Date(now + 14 * 24 * hour);
+        List<SlotSuggestion> slots = List.of();
+        int queries = 1_000;
+        long begin = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            slots = engine.findSlots(attendees.subList(0, 8), hour, new Date(now), windowEnd, 8, rooms, 3);
+        }
+        long smallNanos = (System.nanoTime() - begin) / queries;
+        begin = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            engine.findSlots(attendees, SLOT_MILLIS, new Date(now), windowEnd, 4, rooms, 3);
+        }
+        long largeNanos = (System.nanoTime() - begin) / queries;
+
+        System.out.println("Earliest 1h slots for 8 attendees: " + slots);
+        System.out.println(String.format("findSlots: 8 attendees %,dns, 200 attendees %,dns per query", smallNanos, largeNanos));
+    }
+}
+
+/**
+ * One resource's busy slots: word w holds slots [64w, 64w + 64) since the epoch.
+ */
+class SlotBitmap {
+    private final Map<Long, Long> words = new ConcurrentHashMap<>();
+
+    // Marks slots [fromSlot, toSlot) busy
+    public void mark(long fromSlot, long toSlot) {
+        for (long slot = fromSlot; slot < toSlot; ) {
+            long word = slot >>> 6;
+            long wordEnd = Math.min(toSlot, (word + 1) << 6);
+            int from = (int) (slot & 63);
+            int count = (int) (wordEnd - slot);
+            long mask = count == 64 ? -1L : ((1L << count) - 1) << from;
+            words.merge(word, mask, (a, b) -> a | b);
+            slot = wordEnd;
+        }
+    }
+
+    // Marks slots [fromSlot, toSlot) free, dropping words that end up empty
+    public void clear(long fromSlot, long toSlot) {
+        for (long slot = fromSlot; slot < toSlot; ) {
+            long word = slot >>> 6;
+            long wordEnd = Math.min(toSlot, (word + 1) << 6);
+            int from = (int) (slot & 63);
+            int count = (int) (wordEnd - slot);
+            long mask = count == 64 ? -1L : ((1L << count) - 1) << from;
+            words.computeIfPresent(word, (w, bits) -> (bits & ~mask) == 0 ? null : bits & ~mask);
+            slot = wordEnd;
+        }
+    }
+
+    /**
+     * ORs slots [firstSlot, firstSlot + slots) into window, where window bit 0 is firstSlot.
+     */
+    public void orInto(long[] window, long firstSlot, int slots) {
+        for (long word = firstSlot >>> 6; word <= (firstSlot + slots - 1) >>> 6; word++) {
+            Long bits = words.get(word);
+            if (bits == null) {
+                continue;
+            }
+            long position = (word << 6) - firstSlot; // window bit of this word's bit 0
+            int index = (int) Math.floorDiv(position, 64);
+            int shift = Math.floorMod(position, 64);
+            if (index >= 0 && index < window.length) {
+                window[index] |= bits << shift;
+            }
+            if (shift != 0 && index + 1 >= 0 && index + 1 < window.length) {
+                window[index + 1] |= bits >>> (64 - shift);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package LLDQuestions.MeetingScheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The meetings of one room or one user, sorted by start time.
+ *
+ * The scheduler never lets a room or a user hold two overlapping meetings, so the
+ * intervals in an index are disjoint. The only meeting that can overlap
+ * [start, end) is then the last one starting before end, and a conflict check is
+ * one O(log n) lookup instead of a scan over every meeting in the company.
+ *
+ * Writers hold the scheduler's lock for this room or user, so check-then-add is
+ * atomic. The map itself is a skip list, so calendar views read it without any lock
+ * and never block a booking.
+ *
+ * Recurring meetings are kept as MeetingSeries, one entry per series, and are only
+ * expanded into occurrences for the window a view asks about.
+ */
+public class IntervalIndex {
+    private final NavigableMap<Long, Meeting> byStart = new ConcurrentSkipListMap<>();
+    private final List<MeetingSeries> series = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the meeting or occurrence overlapping [start, end), or null if the slot is free.
+     */
+    public Meeting findConflict(Date start, Date end) {
+        Map.Entry<Long, Meeting> before = byStart.lowerEntry(end.getTime());
+        if (before != null && before.getValue().endTime.getTime() > start.getTime()) {
+            return before.getValue();
+        }
+        for (MeetingSeries existing : series) {
+            Meeting occurrence = existing.findOverlap(start.getTime(), end.getTime());
+            if (occurrence != null) {
+                return occurrence;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a meeting or occurrence overlapping any occurrence of candidate, or null.
+     * Single meetings are only visited inside the span the candidate covers, and each
+     * is checked in O(1); other series are compared arithmetically.
+     */
+    public Meeting findConflict(MeetingSeries candidate) {
+        Long first = byStart.floorKey(candidate.firstStart);
+        long end = candidate.endMillis();
+        NavigableMap<Long, Meeting> span = end == Long.MAX_VALUE
+            ? byStart.tailMap(first == null ? Long.MIN_VALUE : first, true)
+            : byStart.subMap(first == null ? Long.MIN_VALUE : first, true, end, false);
+        for (Meeting meeting : span.values()) {
+            if (candidate.findOverlap(meeting.startTime.getTime(), meeting.endTime.getTime()) != null) {
+                return meeting;
+            }
+        }
+        for (MeetingSeries existing : series) {
+            Meeting occurrence = candidate.findOverlap(existing);
+            if (occurrence != null) {
+                return occurrence;
+            }
+        }
+        return null;
+    }
+
+    public void add(Meeting meeting) {
+        byStart.put(meeting.startTime.getTime(), meeting);
+    }
+
+    public void remove(Meeting meeting) {
+        byStart.remove(meeting.startTime.getTime(), meeting);
+    }
+
+    public void addSeries(MeetingSeries meetingSeries) {
+        series.add(meetingSeries);
+    }
+
+    public void removeSeries(MeetingSeries meetingSeries) {
+        series.remove(meetingSeries);
+    }
+
+    /**
+     * The meetings and series occurrences overlapping [from, to), in start order.
+     */
+    public List<Meeting> between(Date from, Date to) {
+        List<Meeting> result = singlesBetween(from, to);
+        if (!series.isEmpty()) {
+            for (MeetingSeries existing : series) {
+                result.addAll(existing.occurrencesBetween(from.getTime(), to.getTime()));
+            }
+            result.sort(Comparator.comparing(meeting -> meeting.startTime));
+        }
+        return result;
+    }
+
+    /**
+     * The single (non-recurring) meetings overlapping [from, to), in start order.
+     */
+    public List<Meeting> singlesBetween(Date from, Date to) {
+        Long first = byStart.floorKey(from.getTime());
+        List<Meeting> result = new ArrayList<>();
+        for (Meeting meeting : byStart.subMap(first == null ? Long.MIN_VALUE : first, true, to.getTime(), false).values()) {
+            if (meeting.endTime.getTime() > from.getTime()) {
+                result.add(meeting);
+            }
+        }
+        return result;
+    }
+
+    // Each series counts once, however many occurrences it has
+    public int size() {
+        return byStart.size() + series.size();
+    }
+}
@@ -0,0 +1,30 @@
+package LLDQuestions.MeetingScheduler;
+
+import java.util.Date;
+import java.util.List;
+
+class Meeting {
+    String id;
+    User organizer;
+    List<User> attendees;
+    Room room;
+    Date startTime;
+    Date endTime;
+
+    public Meeting(String id, User organizer, List<User> attendees, Room room, Date startTime, Date endTime) {
+        this.id = id;
+        this.organizer = organizer;
+        this.attendees = attendees;
+        this.room = room;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Checks if this meeting overlaps with a given time range.
+     */
+    public boolean hasOverlap(Date otherStart, Date otherEnd) {
+        // Overlap exists if (start1 < end2) and (start2 < end1)
+        return this.startTime.before(otherEnd) && otherStart.before(this.endTime);
+    }
+}
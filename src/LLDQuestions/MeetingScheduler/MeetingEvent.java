@@ -0,0 +1,23 @@
+package LLDQuestions.MeetingScheduler;
+
+import java.util.Date;
+import java.util.List;
+
+class MeetingEvent {
+    final String message;
+    final List<User> recipients;
+
+    public MeetingEvent(String message, List<User> recipients) {
+        this.message = message;
+        this.recipients = recipients;
+    }
+
+    static MeetingEvent booked(Meeting meeting) {
+        return new MeetingEvent("'" + meeting.id + "' in " + meeting.room.name + " at " + meeting.startTime, meeting.attendees);
+    }
+
+    static MeetingEvent booked(MeetingSeries series) {
+        return new MeetingEvent("'" + series.id + "' (" + series.rule + ") in " + series.room.name
+            + " from " + new Date(series.firstStart), series.attendees);
+    }
+}
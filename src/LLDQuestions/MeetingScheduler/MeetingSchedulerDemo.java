@@ -1,16 +1,13 @@
 package LLDQuestions.MeetingScheduler;
 
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Main class to demonstrate the Meeting Scheduler system.
  */
 public class MeetingSchedulerDemo {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
         Scheduler scheduler = new Scheduler();
 
         // --- Setup Data ---
@@ -18,8 +15,8 @@ public class MeetingSchedulerDemo {
         User user2 = new User("U2", "Ankit");
         User user3 = new User("U3", "Deepak");
 
-        Room room1 = new Room("R1", "Conference Room A");
-        Room room2 = new Room("R2", "Conference Room B");
+        Room room1 = new Room("R1", "Conference Room A", 8);
+        Room room2 = new Room("R2", "Conference Room B", 4);
 
         scheduler.addUser(user1);
         scheduler.addUser(user2);
@@ -53,110 +50,41 @@ public class MeetingSchedulerDemo {
         System.out.println("----- SCENARIO 4: Deepak books Room B with only himself -----");
         List<User> attendees4 = List.of(user3);
         scheduler.bookMeeting("M4", user3, attendees4, room2, startTime2, endTime2);
-    }
-}
-
-// --- Models ---
-class User {
-    String id;
-    String name;
-    public User(String id, String name) { this.id = id; this.name = name; }
-    public String getId() { return id; }
-    public String getName() { return name; }
-}
-
-class Room {
-    String id;
-    String name;
-    public Room(String id, String name) { this.id = id; this.name = name; }
-    public String getId() { return id; }
-}
-
-class Meeting {
-    String id;
-    User organizer;
-    List<User> attendees;
-    Room room;
-    Date startTime;
-    Date endTime;
-
-    public Meeting(String id, User organizer, List<User> attendees, Room room, Date startTime, Date endTime) {
-        this.id = id;
-        this.organizer = organizer;
-        this.attendees = attendees;
-        this.room = room;
-        this.startTime = startTime;
-        this.endTime = endTime;
-    }
-
-    /**
-     * Checks if this meeting overlaps with a given time range.
-     */
-    public boolean hasOverlap(Date otherStart, Date otherEnd) {
-        // Overlap exists if (start1 < end2) and (start2 < end1)
-        return this.startTime.before(otherEnd) && otherStart.before(this.endTime);
-    }
-}
-
-// --- The Main Scheduler Service ---
-class Scheduler {
-    private Map<String, User> users;
-    private Map<String, Room> rooms;
-    private List<Meeting> meetings;
-
-    public Scheduler() {
-        this.users = new HashMap<>();
-        this.rooms = new HashMap<>();
-        this.meetings = new ArrayList<>();
-    }
-
-    public void addUser(User user) { users.put(user.getId(), user); }
-    public void addRoom(Room room) { rooms.put(room.getId(), room); }
-
-    public void bookMeeting(String meetingId, User organizer, List<User> attendees, Room room, Date startTime, Date endTime) {
-        System.out.println("Attempting to book meeting '" + meetingId + "' from " + startTime + " to " + endTime);
+        System.out.println();
 
-        // 1. Validate inputs
-        if (startTime.after(endTime)) {
-            System.out.println("Booking failed: Start time must be before end time.");
-            return;
+        // --- SCENARIO 5: Let the scheduler find a slot for everyone ---
+        System.out.println("----- SCENARIO 5: Earliest 1-hour slots for all three in a room for 6 -----");
+        Date windowEnd = new Date(System.currentTimeMillis() + 1000L * 60 * 60 * 24); // next 24 hours
+        List<SlotSuggestion> slots = scheduler.findSlots(List.of(user1, user2, user3), 1000 * 60 * 60, startTime1, windowEnd, 6);
+        for (SlotSuggestion slot : slots) {
+            System.out.println("  " + slot);
         }
+        System.out.println();
 
-        // 2. Check for Room conflicts
-        for (Meeting existingMeeting : meetings) {
-            if (existingMeeting.room.getId().equals(room.getId()) && existingMeeting.hasOverlap(startTime, endTime)) {
-                System.out.println("Booking failed: Room '" + room.name + "' is already booked at this time.");
-                return;
-            }
+        // --- SCENARIO 5b: Cancelling frees the slot for the next search ---
+        System.out.println("----- SCENARIO 5b: Tushit cancels M1, and its hour is offered again -----");
+        scheduler.cancelMeeting("M1");
+        for (SlotSuggestion slot : scheduler.findSlots(List.of(user1, user2), 1000 * 60 * 60, startTime1, windowEnd, 6)) {
+            System.out.println("  " + slot);
         }
+        System.out.println();
 
-        // 3. Check for Attendee conflicts
-        for (User attendee : attendees) {
-            for (Meeting existingMeeting : meetings) {
-                // Check if the attendee is in any other meeting that overlaps
-                if (existingMeeting.attendees.stream().anyMatch(a -> a.getId().equals(attendee.getId())) && existingMeeting.hasOverlap(startTime, endTime)) {
-                    System.out.println("Booking failed: Attendee '" + attendee.getName() + "' is unavailable at this time.");
-                    return;
-                }
-            }
+        // --- SCENARIO 6: Recurring meetings ---
+        System.out.println("----- SCENARIO 6: A two-year daily standup, then weekly 1:1s around it -----");
+        long day = 1000L * 60 * 60 * 24;
+        long nineAm = (System.currentTimeMillis() / day + 1) * day + 1000L * 60 * 60 * 9; // 09:00 UTC tomorrow
+        scheduler.bookRecurringMeeting("STANDUP", user1, List.of(user1, user2, user3), room1,
+            new Date(nineAm), new Date(nineAm + 1000 * 60 * 15), "FREQ=DAILY;COUNT=730");
+        scheduler.bookRecurringMeeting("1:1", user1, List.of(user1, user2), room2,
+            new Date(nineAm + 3 * day + 1000 * 60 * 10), new Date(nineAm + 3 * day + 1000 * 60 * 40), "FREQ=WEEKLY;INTERVAL=2");
+        scheduler.bookRecurringMeeting("1:1", user1, List.of(user1, user2), room2,
+            new Date(nineAm + 3 * day + 1000 * 60 * 30), new Date(nineAm + 3 * day + 1000 * 60 * 60), "FREQ=WEEKLY;INTERVAL=2");
+        System.out.println("Ankit's meetings for the next 4 days:");
+        for (Meeting meeting : scheduler.getMeetingsForUser(user2, new Date(), new Date(nineAm + 4 * day))) {
+            System.out.println("  " + meeting.id + " at " + meeting.startTime);
         }
 
-        // 4. If no conflicts, create and add the meeting
-        Meeting newMeeting = new Meeting(meetingId, organizer, attendees, room, startTime, endTime);
-        meetings.add(newMeeting);
-        System.out.println("Success! Meeting '" + meetingId + "' booked in Room '" + room.name + "'.");
-        
-        // This is where you would notify observers (attendees)
-        notifyAttendees(newMeeting);
-    }
-    
-    // Observer Pattern hook
-    private void notifyAttendees(Meeting meeting) {
-        System.out.print("  Notifying attendees: ");
-        for(User attendee : meeting.attendees) {
-            System.out.print(attendee.getName() + " ");
-        }
-        System.out.println();
+        // Notifications are sent in the background; deliver what is still queued
+        scheduler.shutdown();
     }
 }
-
@@ -0,0 +1,135 @@
+package LLDQuestions.MeetingScheduler;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Many organizers race to book meetings over a few rooms and users in one day, while
+ * readers keep pulling calendar views. Afterwards no room and no user may hold two
+ * overlapping meetings, and every successful booking must be in its room's calendar
+ * and in each attendee's.
+ */
+public class MeetingSchedulerStressTest {
+    private static final long SLOT = 15L * 60 * 1000;
+
+    private final Scheduler scheduler = new Scheduler();
+    private final List<Room> rooms = new ArrayList<>();
+    private final List<User> users = new ArrayList<>();
+    private final int organizers;
+    private final int attemptsPerOrganizer;
+    private final AtomicInteger successes = new AtomicInteger();
+    private final AtomicInteger calendarReads = new AtomicInteger();
+
+    public MeetingSchedulerStressTest(int roomCount, int userCount, int organizers, int attemptsPerOrganizer) {
+        for (int r = 0; r < roomCount; r++) {
+            Room room = new Room("R" + r, "Room " + r);
+            rooms.add(room);
+            scheduler.addRoom(room);
+        }
+        for (int u = 0; u < userCount; u++) {
+            User user = new User("U" + u, "User " + u);
+            users.add(user);
+            scheduler.addUser(user);
+        }
+        this.organizers = organizers;
+        this.attemptsPerOrganizer = attemptsPerOrganizer;
+    }
+
+    void test() throws InterruptedException {
+        long day = Math.floorDiv(System.currentTimeMillis(), SLOT) * SLOT;
+        Date dayEnd = new Date(day + 96 * SLOT);
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(organizers);
+        for (int o = 0; o < organizers; o++) {
+            int organizer = o;
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    ready.await();
+                    for (int i = 0; i < attemptsPerOrganizer; i++) {
+                        List<User> attendees = new ArrayList<>();
+                        for (int a = 1 + random.nextInt(3); a > 0; a--) {
+                            User user = users.get(random.nextInt(users.size()));
+                            if (!attendees.contains(user)) {
+                                attendees.add(user);
+                            }
+                        }
+                        long start = day + random.nextInt(92) * SLOT;
+                        long end = start + (1 + random.nextInt(4)) * SLOT;
+                        Meeting meeting = new Meeting("M-" + organizer + "-" + i, attendees.get(0), attendees,
+                            rooms.get(random.nextInt(rooms.size())), new Date(start), new Date(end));
+                        if (scheduler.reserve(meeting) == null) {
+                            successes.incrementAndGet();
+                        }
+                        if (i % 4 == 0) {
+                            scheduler.getMeetingsForUser(attendees.get(0), new Date(day), dayEnd);
+                            calendarReads.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long begin = System.nanoTime();
+        ready.countDown();
+        done.await();
+        long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+        executor.shutdown();
+
+        int inRooms = 0;
+        int overlaps = 0;
+        for (Room room : rooms) {
+            List<Meeting> calendar = scheduler.getMeetingsForRoom(room, new Date(day), dayEnd);
+            inRooms += calendar.size();
+            overlaps += countOverlaps(calendar);
+        }
+        int attendances = 0;
+        int expectedAttendances = 0;
+        for (User user : users) {
+            List<Meeting> calendar = scheduler.getMeetingsForUser(user, new Date(day), dayEnd);
+            attendances += calendar.size();
+            overlaps += countOverlaps(calendar);
+        }
+        for (Room room : rooms) {
+            for (Meeting meeting : scheduler.getMeetingsForRoom(room, new Date(day), dayEnd)) {
+                expectedAttendances += meeting.attendees.size();
+            }
+        }
+
+        scheduler.shutdown();
+
+        System.out.println(String.format("%,d booking attempts in %,dms, %,d succeeded, %,d in room calendars, %,d calendar reads, %d overlaps",
+            organizers * attemptsPerOrganizer, elapsedMillis, successes.get(), inRooms, calendarReads.get(), overlaps));
+        if (overlaps == 0 && inRooms == successes.get() && attendances == expectedAttendances) {
+            System.out.println("Test PASSED!");
+        } else {
+            System.err.println("Test FAILED: double bookings or lost meetings detected.");
+        }
+    }
+
+    // The views are sorted by start time, so any overlap is between neighbours
+    private static int countOverlaps(List<Meeting> calendar) {
+        int overlaps = 0;
+        for (int i = 1; i < calendar.size(); i++) {
+            if (calendar.get(i).startTime.before(calendar.get(i - 1).endTime)) {
+                overlaps++;
+            }
+        }
+        return overlaps;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        // Parameters: rooms, users, concurrent organizers, booking attempts per organizer
+        new MeetingSchedulerStressTest(10, 50, 2_000, 25).test();
+    }
+}
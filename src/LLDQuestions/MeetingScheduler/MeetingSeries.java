@@ -0,0 +1,216 @@
+package LLDQuestions.MeetingScheduler;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A recurring meeting, stored once: the first occurrence plus a RecurrenceRule.
+ *
+ * Occurrence k starts at firstStart + k * period, so every question about the series
+ * is arithmetic on k. Which occurrence could overlap [start, end) is one division,
+ * occurrencesBetween builds Meeting objects only for the window asked about, and two
+ * series are first compared with a gcd test that proves most pairs can never collide
+ * without looking at a single occurrence.
+ *
+ * Occurrences must not overlap each other, so the duration may not exceed the period.
+ */
+public class MeetingSeries {
+    final String id;
+    final User organizer;
+    final List<User> attendees;
+    final Room room;
+    final RecurrenceRule rule;
+    final long firstStart;
+    final long duration;
+    final long period;
+    final long lastIndex; // Long.MAX_VALUE for a series with no COUNT or UNTIL
+
+    public MeetingSeries(String id, User organizer, List<User> attendees, Room room, Date firstStart, Date firstEnd, RecurrenceRule rule) {
+        this.id = id;
+        this.organizer = organizer;
+        this.attendees = attendees;
+        this.room = room;
+        this.rule = rule;
+        this.firstStart = firstStart.getTime();
+        this.duration = firstEnd.getTime() - firstStart.getTime();
+        this.period = rule.periodMillis();
+        if (duration <= 0 || duration > period) {
+            throw new IllegalArgumentException("Each occurrence must end after it starts and before the next one begins.");
+        }
+        if (rule.count > 0) {
+            this.lastIndex = rule.count - 1;
+        } else if (rule.untilMillis != Long.MAX_VALUE) {
+            this.lastIndex = Math.floorDiv(rule.untilMillis - this.firstStart, period);
+        } else {
+            this.lastIndex = Long.MAX_VALUE;
+        }
+        if (lastIndex < 0) {
+            throw new IllegalArgumentException("UNTIL is before the first occurrence.");
+        }
+    }
+
+    long startOf(long index) {
+        return firstStart + index * period;
+    }
+
+    // End of the last occurrence, or Long.MAX_VALUE if the series never ends
+    long endMillis() {
+        return lastIndex == Long.MAX_VALUE ? Long.MAX_VALUE : startOf(lastIndex) + duration;
+    }
+
+    Meeting occurrence(long index) {
+        long start = startOf(index);
+        return new Meeting(id + "@" + index, organizer, attendees, room, new Date(start), new Date(start + duration));
+    }
+
+    /**
+     * Returns the occurrence overlapping [start, end), or null. Occurrences are disjoint,
+     * so only the last one starting before end can overlap.
+     */
+    public Meeting findOverlap(long start, long end) {
+        if (end <= firstStart) {
+            return null;
+        }
+        long index = Math.min(lastIndex, Math.floorDiv(end - 1 - firstStart, period));
+        return startOf(index) + duration > start ? occurrence(index) : null;
+    }
+
+    /**
+     * Returns an occurrence of other that overlaps an occurrence of this series, or null.
+     *
+     * Any two starts differ by (other.firstStart - firstStart) + m * gcd(periods), so if
+     * no such difference lies in (-other.duration, duration) the series never meet. Only
+     * when the gcd test cannot rule a clash out are occurrences walked, and then only
+     * those of the sparser series inside the span both series cover, each checked
+     * against the other in O(1).
+     */
+    public Meeting findOverlap(MeetingSeries other) {
+        long from = Math.max(firstStart, other.firstStart);
+        long to = Math.min(endMillis(), other.endMillis());
+        if (from >= to) {
+            return null;
+        }
+        long gcd = gcd(period, other.period);
+        long offset = Math.floorMod(other.firstStart - firstStart, gcd);
+        if (offset >= duration && offset - gcd <= -other.duration) {
+            return null;
+        }
+        // The pattern of start differences repeats every lcm(periods)
+        long cycle;
+        try {
+            cycle = Math.addExact(Math.multiplyExact(period / gcd, other.period), Math.max(period, other.period));
+        } catch (ArithmeticException e) {
+            cycle = Long.MAX_VALUE;
+        }
+        to = Math.min(to, from + Math.min(cycle, Long.MAX_VALUE - from));
+
+        if (period >= other.period) {
+            for (Meeting mine : occurrencesBetween(from, to)) {
+                Meeting theirs = other.findOverlap(mine.startTime.getTime(), mine.endTime.getTime());
+                if (theirs != null) {
+                    return theirs;
+                }
+            }
+        } else {
+            for (Meeting theirs : other.occurrencesBetween(from, to)) {
+                if (findOverlap(theirs.startTime.getTime(), theirs.endTime.getTime()) != null) {
+                    return theirs;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The occurrences overlapping [from, to), built on demand and in start order.
+     */
+    public List<Meeting> occurrencesBetween(long from, long to) {
+        List<Meeting> result = new ArrayList<>();
+        long index = Math.max(0, Math.floorDiv(from - duration - firstStart, period) + 1);
+        for (; index <= lastIndex && startOf(index) < to; index++) {
+            result.add(occurrence(index));
+        }
+        return result;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    @Override
+    public String toString() {
+        return id + " (" + rule + ")";
+    }
+
+    // --- Demo: a two-year daily standup against a busy recurring calendar ---
+
+    public static void main(String[] args) {
+        long hour = 60L * 60 * 1000;
+        long day = 24 * hour;
+        long monday = Math.floorDiv(System.currentTimeMillis(), 7 * day) * 7 * day + 4 * day; // epoch day 4 was a Monday
+        User user = new User("U1", "Tushit");
+        Room room = new Room("R1", "Conference Room A");
+
+        // Twenty weekly and fortnightly meetings, each two years long, at different hours
+        List<MeetingSeries> calendar = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            long start = monday + (i % 5) * day + (10 + i / 5) * hour;
+            String rule = (i % 2 == 0 ? "FREQ=WEEKLY" : "FREQ=WEEKLY;INTERVAL=2") + ";COUNT=" + (i % 2 == 0 ? 104 : 52);
+            calendar.add(new MeetingSeries("S" + i, user, List.of(user), room, new Date(start), new Date(start + hour), RecurrenceRule.parse(rule)));
+        }
+
+        long standupStart = monday + 9 * hour;
+        MeetingSeries standup = new MeetingSeries("STANDUP", user, List.of(user), room,
+            new Date(standupStart), new Date(standupStart + 15 * 60 * 1000), RecurrenceRule.parse("FREQ=DAILY;COUNT=730"));
+        MeetingSeries clashing = new MeetingSeries("CLASH", user, List.of(user), room,
+            new Date(monday + 3 * day + 13 * hour), new Date(monday + 3 * day + 14 * hour), RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3;COUNT=200"));
+
+        int checks = 10_000;
+        Meeting conflict = null;
+        long begin = System.nanoTime();
+        for (int i = 0; i < checks; i++) {
+            for (MeetingSeries existing : calendar) {
+                if (standup.findOverlap(existing) != null) {
+                    break;
+                }
+            }
+        }
+        long standupNanos = (System.nanoTime() - begin) / checks;
+        for (MeetingSeries existing : calendar) {
+            if ((conflict = clashing.findOverlap(existing)) != null) {
+                break;
+            }
+        }
+
+        int materialized = 730;
+        for (MeetingSeries existing : calendar) {
+            materialized += (int) (existing.lastIndex + 1);
+        }
+        System.out.println(String.format("Standup vs 20 recurring series (%,d occurrences if materialized): no conflict, %,dns per check",
+            materialized, standupNanos));
+        System.out.println("Every-third-day series clashes with " + conflict.id + " at " + conflict.startTime);
+        System.out.println("Standup occurrences this week: " + standup.occurrencesBetween(monday, monday + 7 * day).size());
+
+        // Unequal durations: the short daily meeting starts inside the long weekly one
+        MeetingSeries weekly = new MeetingSeries("WEEKLY", user, List.of(user), room,
+            new Date(monday + 8 * hour + 30 * 60 * 1000), new Date(monday + 9 * hour + 30 * 60 * 1000), RecurrenceRule.parse("FREQ=WEEKLY"));
+        MeetingSeries daily = new MeetingSeries("DAILY", user, List.of(user), room,
+            new Date(monday + 9 * hour), new Date(monday + 9 * hour + 15 * 60 * 1000), RecurrenceRule.parse("FREQ=DAILY"));
+        MeetingSeries after = new MeetingSeries("AFTER", user, List.of(user), room,
+            new Date(monday + 9 * hour + 30 * 60 * 1000), new Date(monday + 9 * hour + 45 * 60 * 1000), RecurrenceRule.parse("FREQ=DAILY"));
+        boolean clashes = weekly.findOverlap(daily) != null && daily.findOverlap(weekly) != null;
+        boolean adjacentIsFree = weekly.findOverlap(after) == null && after.findOverlap(weekly) == null;
+        if (clashes && adjacentIsFree) {
+            System.out.println("Test PASSED!");
+        } else {
+            System.err.println("Test FAILED: weekly 08:30-09:30 vs daily 09:00-09:15 clash=" + clashes
+                + ", vs daily 09:30-09:45 free=" + adjacentIsFree);
+        }
+    }
+}
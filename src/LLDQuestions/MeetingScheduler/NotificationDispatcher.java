@@ -0,0 +1,214 @@
+package LLDQuestions.MeetingScheduler;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Delivers booking notifications off the booking path.
+ *
+ * publish is a non-blocking offer into a bounded queue, so a booking pays for one
+ * queue insert whether the meeting has 2 attendees or 200. Worker threads
+ * drain the queue in batches and coalesce each batch per recipient: someone invited
+ * to five meetings in one burst gets one message listing all five. A failed send is
+ * retried with exponential backoff, and a recipient that still cannot be reached, or
+ * an event that arrives while the queue is full, goes to the dead-letter queue
+ * instead of blocking or being silently lost.
+ *
+ * Publishers hold the read side of a lock across their check-and-offer, and shutdown
+ * takes the write side to stop accepting events. So once a worker sees the dispatcher
+ * stopped, no offer can still be on its way into the queue.
+ */
+public class NotificationDispatcher {
+    private final NotificationSender sender;
+    private final BlockingQueue<MeetingEvent> queue;
+    private final int maxBatch;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final List<Thread> workers = new ArrayList<>();
+    private final ConcurrentLinkedQueue<DeadLetter> deadLetters = new ConcurrentLinkedQueue<>();
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+
+    public NotificationDispatcher(NotificationSender sender, int capacity, int workerCount) {
+        this(sender, capacity, workerCount, 64, 3, 10);
+    }
+
+    public NotificationDispatcher(NotificationSender sender, int capacity, int workerCount, int maxBatch, int maxAttempts, long baseBackoffMillis) {
+        this.sender = sender;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::drainLoop, "notification-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Queues the event without blocking. Returns false, and dead-letters the event, if
+     * the queue is full or the dispatcher is shut down.
+     */
+    public boolean publish(MeetingEvent event) {
+        published.incrementAndGet();
+        acceptLock.readLock().lock();
+        try {
+            if (running && queue.offer(event)) {
+                return true;
+            }
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+        for (User recipient : event.recipients) {
+            deadLetters.add(new DeadLetter(recipient, List.of(event.message), running ? "queue full" : "dispatcher shut down"));
+        }
+        return false;
+    }
+
+    /**
+     * Stops accepting events, delivers everything already queued, and waits for the workers.
+     */
+    public void shutdown() throws InterruptedException {
+        acceptLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    public List<DeadLetter> getDeadLetters() {
+        return new ArrayList<>(deadLetters);
+    }
+
+    public String stats() {
+        return String.format("%,d events published, %,d messages delivered in %,d batches, %,d retries, %,d dead letters",
+            published.get(), delivered.get(), batches.get(), retries.get(), deadLetters.size());
+    }
+
+    private void drainLoop() {
+        List<MeetingEvent> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                MeetingEvent first = queue.poll(50, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<MeetingEvent> batch) throws InterruptedException {
+        batches.incrementAndGet();
+        // Coalesce: one send per recipient, carrying every message for them in this batch
+        Map<String, List<String>> byRecipient = new LinkedHashMap<>();
+        Map<String, User> recipients = new LinkedHashMap<>();
+        for (MeetingEvent event : batch) {
+            for (User recipient : event.recipients) {
+                recipients.putIfAbsent(recipient.getId(), recipient);
+                byRecipient.computeIfAbsent(recipient.getId(), id -> new ArrayList<>()).add(event.message);
+            }
+        }
+        for (Map.Entry<String, List<String>> entry : byRecipient.entrySet()) {
+            sendWithRetry(recipients.get(entry.getKey()), entry.getValue());
+        }
+    }
+
+    private void sendWithRetry(User recipient, List<String> messages) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                sender.send(recipient, messages);
+                delivered.addAndGet(messages.size());
+                return;
+            } catch (Exception e) {
+                if (attempt == maxAttempts) {
+                    deadLetters.add(new DeadLetter(recipient, messages, e.getMessage()));
+                    return;
+                }
+                retries.incrementAndGet();
+                Thread.sleep(baseBackoffMillis << (attempt - 1));
+            }
+        }
+    }
+
+    // --- Demo: booking latency vs attendee count, with a slow and flaky sender ---
+
+    public static void main(String[] args) throws InterruptedException {
+        // Each send takes ~1ms and one in ten fails
+        NotificationSender slowFlaky = (recipient, messages) -> {
+            Thread.sleep(1);
+            if (ThreadLocalRandom.current().nextInt(10) == 0) {
+                throw new IllegalStateException("mail server timeout");
+            }
+        };
+        NotificationDispatcher dispatcher = new NotificationDispatcher(slowFlaky, 10_000, 4, 256, 3, 2);
+
+        List<User> everyone = new ArrayList<>();
+        for (int u = 0; u < 200; u++) {
+            everyone.add(new User("U" + u, "User " + u));
+        }
+        Room room = new Room("R1", "Conference Room A");
+        for (int attendees : new int[] {2, 20, 200}) {
+            int events = 500;
+            long begin = System.nanoTime();
+            for (int i = 0; i < events; i++) {
+                Meeting meeting = new Meeting("M" + i, everyone.get(0), everyone.subList(0, attendees), room, new Date(), new Date());
+                dispatcher.publish(MeetingEvent.booked(meeting));
+            }
+            long publishNanos = (System.nanoTime() - begin) / events;
+            System.out.println(String.format("%3d attendees: %,dns per publish (a synchronous send would be ~%,dms)",
+                attendees, publishNanos, attendees));
+        }
+
+        dispatcher.shutdown();
+        System.out.println(dispatcher.stats());
+        System.out.println("Publish after shutdown: " + (dispatcher.publish(MeetingEvent.booked(
+            new Meeting("LATE", everyone.get(0), everyone.subList(0, 1), room, new Date(), new Date()))) ? "queued" : "rejected and dead-lettered"));
+    }
+}
+
+class DeadLetter {
+    final User recipient;
+    final List<String> messages;
+    final String reason;
+
+    public DeadLetter(User recipient, List<String> messages, String reason) {
+        this.recipient = recipient;
+        this.messages = messages;
+        this.reason = reason;
+    }
+
+    @Override
+    public String toString() {
+        return recipient.getName() + " <- " + messages + " (" + reason + ")";
+    }
+}
@@ -0,0 +1,10 @@
+package LLDQuestions.MeetingScheduler;
+
+import java.util.List;
+
+/**
+ * Delivers one coalesced message to one recipient. Throwing means "try again later".
+ */
+interface NotificationSender {
+    void send(User recipient, List<String> messages) throws Exception;
+}
@@ -0,0 +1,110 @@
+package LLDQuestions.MeetingScheduler;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * The subset of RFC 5545 RRULE the scheduler understands:
+ * FREQ=DAILY|WEEKLY, INTERVAL=n, and at most one of COUNT=n or UNTIL=yyyyMMdd['T'HHmmss'Z'].
+ *
+ * Periods are fixed lengths of UTC time, so a series does not shift across DST changes.
+ */
+class RecurrenceRule {
+    enum Frequency {
+        DAILY(24L * 60 * 60 * 1000),
+        WEEKLY(7 * 24L * 60 * 60 * 1000);
+
+        final long millis;
+
+        Frequency(long millis) { this.millis = millis; }
+    }
+
+    final Frequency frequency;
+    final int interval;
+    final int count;         // 0 if not set
+    final long untilMillis;  // Long.MAX_VALUE if not set
+
+    RecurrenceRule(Frequency frequency, int interval, int count, long untilMillis) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.untilMillis = untilMillis;
+    }
+
+    public static RecurrenceRule parse(String rrule) {
+        Frequency frequency = null;
+        int interval = 1;
+        int count = 0;
+        long until = Long.MAX_VALUE;
+        for (String part : rrule.split(";")) {
+            String[] keyValue = part.split("=", 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Malformed RRULE part '" + part + "'.");
+            }
+            String value = keyValue[1].trim();
+            switch (keyValue[0].trim().toUpperCase()) {
+                case "FREQ":
+                    try {
+                        frequency = Frequency.valueOf(value.toUpperCase());
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Unsupported FREQ '" + value + "'; only DAILY and WEEKLY are supported.");
+                    }
+                    break;
+                case "INTERVAL":
+                    interval = positive("INTERVAL", value);
+                    break;
+                case "COUNT":
+                    count = positive("COUNT", value);
+                    break;
+                case "UNTIL":
+                    until = parseUntil(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported RRULE part '" + keyValue[0] + "'.");
+            }
+        }
+        if (frequency == null) {
+            throw new IllegalArgumentException("RRULE must have a FREQ.");
+        }
+        if (count > 0 && until != Long.MAX_VALUE) {
+            throw new IllegalArgumentException("RRULE may not have both COUNT and UNTIL.");
+        }
+        return new RecurrenceRule(frequency, interval, count, until);
+    }
+
+    long periodMillis() {
+        return frequency.millis * interval;
+    }
+
+    private static int positive(String name, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(name + " must be a positive integer, got '" + value + "'.");
+    }
+
+    private static long parseUntil(String value) {
+        SimpleDateFormat format = new SimpleDateFormat(value.length() == 8 ? "yyyyMMdd" : "yyyyMMdd'T'HHmmss'Z'");
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        format.setLenient(false);
+        try {
+            return format.parse(value).getTime();
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("UNTIL must look like 20250131 or 20250131T090000Z, got '" + value + "'.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FREQ=" + frequency + (interval > 1 ? ";INTERVAL=" + interval : "")
+            + (count > 0 ? ";COUNT=" + count : "")
+            + (untilMillis != Long.MAX_VALUE ? ";UNTIL=" + new Date(untilMillis) : "");
+    }
+}
@@ -0,0 +1,11 @@
+package LLDQuestions.MeetingScheduler;
+
+class Room {
+    String id;
+    String name;
+    int capacity;
+    public Room(String id, String name) { this(id, name, 10); }
+    public Room(String id, String name, int capacity) { this.id = id; this.name = name; this.capacity = capacity; }
+    public String getId() { return id; }
+    public int getCapacity() { return capacity; }
+}
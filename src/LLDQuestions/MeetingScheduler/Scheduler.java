@@ -0,0 +1,241 @@
+package LLDQuestions.MeetingScheduler;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+class Scheduler {
+    private Map<String, User> users;
+    private Map<String, Room> rooms;
+    private Map<String, Meeting> meetings;
+    private Map<String, MeetingSeries> series;
+    private Map<String, IntervalIndex> roomCalendars; // Room id -> its meetings by start time
+    private Map<String, IntervalIndex> userCalendars; // User id -> meetings they attend, by start time
+    private Map<String, ReentrantLock> locks; // "room:<id>" / "user:<id>" -> lock guarding that calendar
+    private FreeBusyEngine freeBusy;
+    private NotificationDispatcher notifications;
+
+    public Scheduler() {
+        this(new NotificationDispatcher(new ConsoleNotificationSender(), 1024, 2));
+    }
+
+    public Scheduler(NotificationDispatcher notifications) {
+        this.users = new ConcurrentHashMap<>();
+        this.rooms = new ConcurrentHashMap<>();
+        this.meetings = new ConcurrentHashMap<>();
+        this.series = new ConcurrentHashMap<>();
+        this.roomCalendars = new ConcurrentHashMap<>();
+        this.userCalendars = new ConcurrentHashMap<>();
+        this.locks = new ConcurrentHashMap<>();
+        this.freeBusy = new FreeBusyEngine();
+        this.notifications = notifications;
+    }
+
+    /**
+     * Delivers the notifications still queued and stops the dispatcher's worker threads.
+     * Every Scheduler must be shut down once it is no longer used.
+     */
+    public void shutdown() throws InterruptedException {
+        notifications.shutdown();
+    }
+
+    public void addUser(User user) { users.put(user.getId(), user); }
+    public void addRoom(Room room) { rooms.put(room.getId(), room); }
+
+    private IntervalIndex roomCalendar(Room room) {
+        return roomCalendars.computeIfAbsent(room.getId(), id -> new IntervalIndex());
+    }
+
+    private IntervalIndex userCalendar(User user) {
+        return userCalendars.computeIfAbsent(user.getId(), id -> new IntervalIndex());
+    }
+
+    // Calendar views read the skip lists directly and never wait for a booking
+    public List<Meeting> getMeetingsForUser(User user, Date from, Date to) {
+        return userCalendar(user).between(from, to);
+    }
+
+    public List<Meeting> getMeetingsForRoom(Room room, Date from, Date to) {
+        return roomCalendar(room).between(from, to);
+    }
+
+    /**
+     * The earliest 15-minute-aligned starts in [windowStart, windowEnd) when every
+     * attendee and some room seating roomCapacity are free for durationMillis.
+     */
+    public List<SlotSuggestion> findSlots(List<User> attendees, long durationMillis, Date windowStart, Date windowEnd, int roomCapacity) {
+        return freeBusy.findSlots(attendees, durationMillis, windowStart, windowEnd, roomCapacity, rooms.values(), 3);
+    }
+
+    /**
+     * Books the meeting and returns it, or prints why not and returns null.
+     */
+    public Meeting bookMeeting(String meetingId, User organizer, List<User> attendees, Room room, Date startTime, Date endTime) {
+        System.out.println("Attempting to book meeting '" + meetingId + "' from " + startTime + " to " + endTime);
+
+        Meeting newMeeting = new Meeting(meetingId, organizer, attendees, room, startTime, endTime);
+        String failure = reserve(newMeeting);
+        if (failure != null) {
+            System.out.println("Booking failed: " + failure);
+            return null;
+        }
+        System.out.println("Success! Meeting '" + meetingId + "' booked in Room '" + room.name + "'.");
+
+        // Observer Pattern hook: hand the event to the notification workers and return
+        notifications.publish(MeetingEvent.booked(newMeeting));
+        return newMeeting;
+    }
+
+    /**
+     * Adds the meeting to its room's and attendees' calendars, or returns why it cannot.
+     *
+     * The check and the add run under the locks of exactly those calendars, taken in
+     * sorted key order, so two bookings that share a resource serialize without
+     * deadlocking, and bookings that share none run in parallel.
+     */
+    String reserve(Meeting meeting) {
+        // 1. Validate inputs
+        if (!meeting.startTime.before(meeting.endTime)) {
+            return "Start time must be before end time.";
+        }
+
+        List<ReentrantLock> held = lockAll(meeting.room, meeting.attendees);
+        try {
+            // 2. Check for Room conflicts: one lookup in the room's calendar
+            if (roomCalendar(meeting.room).findConflict(meeting.startTime, meeting.endTime) != null) {
+                return "Room '" + meeting.room.name + "' is already booked at this time.";
+            }
+
+            // 3. Check for Attendee conflicts: one lookup per attendee
+            for (User attendee : meeting.attendees) {
+                if (userCalendar(attendee).findConflict(meeting.startTime, meeting.endTime) != null) {
+                    return "Attendee '" + attendee.getName() + "' is unavailable at this time.";
+                }
+            }
+
+            // 4. If no conflicts, add the meeting everywhere
+            if (meetings.putIfAbsent(meeting.id, meeting) != null) {
+                return "Meeting id '" + meeting.id + "' is already in use.";
+            }
+            roomCalendar(meeting.room).add(meeting);
+            for (User attendee : meeting.attendees) {
+                userCalendar(attendee).add(meeting);
+            }
+            freeBusy.markBusy(meeting);
+            return null;
+        } finally {
+            for (int i = held.size() - 1; i >= 0; i--) {
+                held.get(i).unlock();
+            }
+        }
+    }
+
+    /**
+     * Cancels a booked meeting and frees its room and attendees. Returns false, and
+     * prints why, if there is no such meeting.
+     */
+    public boolean cancelMeeting(String meetingId) {
+        Meeting meeting = meetings.get(meetingId);
+        if (meeting == null) {
+            System.out.println("Cancellation failed: no meeting '" + meetingId + "'.");
+            return false;
+        }
+        List<ReentrantLock> held = lockAll(meeting.room, meeting.attendees);
+        try {
+            if (!meetings.remove(meetingId, meeting)) {
+                System.out.println("Cancellation failed: '" + meetingId + "' was already cancelled.");
+                return false;
+            }
+            roomCalendar(meeting.room).remove(meeting);
+            for (User attendee : meeting.attendees) {
+                userCalendar(attendee).remove(meeting);
+            }
+            freeBusy.markFree(meeting, roomCalendar(meeting.room), this::userCalendar);
+        } finally {
+            for (int i = held.size() - 1; i >= 0; i--) {
+                held.get(i).unlock();
+            }
+        }
+        System.out.println("Meeting '" + meetingId + "' cancelled.");
+        return true;
+    }
+
+    /**
+     * Books a recurring meeting, given as its first occurrence and an RRULE such as
+     * "FREQ=WEEKLY;INTERVAL=2;COUNT=10". Returns the series, or prints why not and returns null.
+     */
+    public MeetingSeries bookRecurringMeeting(String seriesId, User organizer, List<User> attendees, Room room,
+                                              Date firstStart, Date firstEnd, String rrule) {
+        System.out.println("Attempting to book recurring meeting '" + seriesId + "' (" + rrule + ") from " + firstStart);
+
+        MeetingSeries newSeries;
+        try {
+            newSeries = new MeetingSeries(seriesId, organizer, attendees, room, firstStart, firstEnd, RecurrenceRule.parse(rrule));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Booking failed: " + e.getMessage());
+            return null;
+        }
+        String failure = reserve(newSeries);
+        if (failure != null) {
+            System.out.println("Booking failed: " + failure);
+            return null;
+        }
+        System.out.println("Success! Series '" + seriesId + "' booked in Room '" + room.name + "'.");
+        notifications.publish(MeetingEvent.booked(newSeries));
+        return newSeries;
+    }
+
+    /**
+     * Same as reserve(Meeting), but the series is checked and stored as one entry per
+     * calendar rather than one per occurrence.
+     */
+    String reserve(MeetingSeries newSeries) {
+        List<ReentrantLock> held = lockAll(newSeries.room, newSeries.attendees);
+        try {
+            Meeting conflict = roomCalendar(newSeries.room).findConflict(newSeries);
+            if (conflict != null) {
+                return "Room '" + newSeries.room.name + "' is already booked on " + conflict.startTime + " by '" + conflict.id + "'.";
+            }
+            for (User attendee : newSeries.attendees) {
+                conflict = userCalendar(attendee).findConflict(newSeries);
+                if (conflict != null) {
+                    return "Attendee '" + attendee.getName() + "' is unavailable on " + conflict.startTime + " ('" + conflict.id + "').";
+                }
+            }
+
+            if (series.putIfAbsent(newSeries.id, newSeries) != null) {
+                return "Series id '" + newSeries.id + "' is already in use.";
+            }
+            roomCalendar(newSeries.room).addSeries(newSeries);
+            for (User attendee : newSeries.attendees) {
+                userCalendar(attendee).addSeries(newSeries);
+            }
+            freeBusy.addSeries(newSeries);
+            return null;
+        } finally {
+            for (int i = held.size() - 1; i >= 0; i--) {
+                held.get(i).unlock();
+            }
+        }
+    }
+
+    private List<ReentrantLock> lockAll(Room room, List<User> attendees) {
+        Set<String> keys = new TreeSet<>();
+        keys.add("room:" + room.getId());
+        for (User attendee : attendees) {
+            keys.add("user:" + attendee.getId());
+        }
+        List<ReentrantLock> held = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            ReentrantLock lock = locks.computeIfAbsent(key, k -> new ReentrantLock());
+            lock.lock();
+            held.add(lock);
+        }
+        return held;
+    }
+}
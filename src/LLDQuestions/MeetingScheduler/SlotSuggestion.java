@@ -0,0 +1,20 @@
+package LLDQuestions.MeetingScheduler;
+
+import java.util.Date;
+
+class SlotSuggestion {
+    final Date start;
+    final Date end;
+    final Room room;
+
+    public SlotSuggestion(Date start, Date end, Room room) {
+        this.start = start;
+        this.end = end;
+        this.room = room;
+    }
+
+    @Override
+    public String toString() {
+        return start + " in " + room.name;
+    }
+}
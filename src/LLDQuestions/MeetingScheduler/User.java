@@ -0,0 +1,9 @@
+package LLDQuestions.MeetingScheduler;
+
+class User {
+    String id;
+    String name;
+    public User(String id, String name) { this.id = id; this.name = name; }
+    public String getId() { return id; }
+    public String getName() { return name; }
+}
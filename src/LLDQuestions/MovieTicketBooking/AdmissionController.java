@@ -0,0 +1,256 @@
+package LLDQuestions.MovieTicketBooking;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The front door for on-sale bursts. Every show gets a bounded FIFO waiting room,
+ * and users leave it at a fixed rate through a token bucket. Only admitted users
+ * go on to BookingService, so the seat bitmap sees a steady, bounded load.
+ *
+ * A user who arrives when the room is full is turned away at once, before any seat
+ * is touched. A queued user's position is their ticket number minus the number of
+ * tickets already let through, so it is O(1) to report, as is the ETA.
+ */
+public class AdmissionController {
+    private static final long TICK_MILLIS = 10;
+
+    private final double admitsPerSecond;
+    private final int waitingRoomCapacity;
+    private final Map<String, WaitingRoom> rooms = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+
+    public AdmissionController(double admitsPerSecond, int waitingRoomCapacity) {
+        this.admitsPerSecond = admitsPerSecond;
+        this.waitingRoomCapacity = waitingRoomCapacity;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "admission-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(this::admitAll, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Puts the user in the show's waiting room. The ticket is REJECTED straight away
+     * if the room is full or the show is sold out; otherwise it reports position and
+     * ETA until admitted.
+     */
+    public QueueTicket join(String userId, Show show) {
+        if (show.getInventory().availableCount() == 0) {
+            return new QueueTicket(userId, 0, null, TicketStatus.REJECTED); // sold out, don't queue
+        }
+        WaitingRoom room = rooms.computeIfAbsent(show.getId(), id -> new WaitingRoom(waitingRoomCapacity, admitsPerSecond));
+        return room.join(userId);
+    }
+
+    /**
+     * Drops the show's waiting room once the show has ended. Anyone still queued is
+     * REJECTED and their admitted() future is cancelled.
+     */
+    public void closeShow(String showId) {
+        WaitingRoom room = rooms.remove(showId);
+        if (room != null) {
+            room.close();
+        }
+    }
+
+    public int getOpenRoomCount() {
+        return rooms.size();
+    }
+
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    private void admitAll() {
+        for (WaitingRoom room : rooms.values()) {
+            room.admit(TICK_MILLIS);
+        }
+    }
+
+    // --- Demo: a flash on-sale with 10x more users than the waiting room holds ---
+
+    public static void main(String[] args) throws InterruptedException {
+        BookingService bookingService = BookingService.getInstance();
+        Screen imax = new Screen("IMAX", new Cinema("C01", "PVR Forum Mall, Bengaluru"), 100, 50);
+        Show show = new Show("SH-ONSALE", new Movie("M01", "Dune: Part Two"), imax, "2025-08-20T19:00:00");
+        bookingService.addShow(show);
+
+        AdmissionController frontDoor = new AdmissionController(2_000, 4_000);
+        ExecutorService bookingPool = Executors.newFixedThreadPool(8);
+        AtomicInteger held = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        CompletableFuture<?>[] sessions = new CompletableFuture<?>[40_000];
+        int rejected = 0;
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < sessions.length; i++) {
+            QueueTicket ticket = frontDoor.join("USER-" + i, show);
+            if (ticket.getStatus() == TicketStatus.REJECTED) {
+                rejected++;
+                sessions[i] = CompletableFuture.completedFuture(null);
+                continue;
+            }
+            if (i == 3_000) {
+                System.out.println(String.format("User 3000 is at position %d, ETA %dms", ticket.getPosition(), ticket.getEtaMillis()));
+            }
+            sessions[i] = ticket.admitted().thenRunAsync(() -> {
+                SeatHold hold = bookingService.holdBestSeats(ticket.getUserId(), show, 2, SeatPreferences.anywhere(), 600_000);
+                (hold != null ? held : soldOut).incrementAndGet();
+            }, bookingPool);
+        }
+        System.out.println(String.format("%,d users arrived, %,d shed at the door, %,d queued", sessions.length, rejected, sessions.length - rejected));
+
+        CompletableFuture.allOf(sessions).join();
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        System.out.println(String.format("Drained in %,dms: %,d holds placed, %,d admitted but too late. Show: %s",
+            millis, held.get(), soldOut.get(), show.getInventory()));
+        frontDoor.closeShow(show.getId());
+        System.out.println("Waiting rooms open after the show closes: " + frontDoor.getOpenRoomCount());
+
+        // Joins racing closeShow must end up REJECTED, never QUEUED in a room nobody drains
+        WaitingRoom closing = new WaitingRoom(4_000, 2_000);
+        QueueTicket[] racers = new QueueTicket[4_000];
+        Thread joiner = new Thread(() -> {
+            for (int i = 0; i < racers.length; i++) {
+                racers[i] = closing.join("LATE-" + i);
+            }
+        });
+        joiner.start();
+        closing.close();
+        joiner.join();
+        long stranded = Arrays.stream(racers).filter(t -> t.getStatus() == TicketStatus.QUEUED).count();
+        System.out.println("Tickets left QUEUED in a closed room: " + stranded);
+        bookingPool.shutdown();
+        frontDoor.shutdown();
+    }
+}
+
+enum TicketStatus { QUEUED, ADMITTED, REJECTED, ABANDONED }
+
+class QueueTicket {
+    private final String userId;
+    private final long number;
+    private final WaitingRoom room;
+    private final AtomicReference<TicketStatus> status;
+    private final CompletableFuture<Void> admitted = new CompletableFuture<>();
+
+    QueueTicket(String userId, long number, WaitingRoom room, TicketStatus status) {
+        this.userId = userId;
+        this.number = number;
+        this.room = room;
+        this.status = new AtomicReference<>(status);
+    }
+
+    public String getUserId() { return userId; }
+    public TicketStatus getStatus() { return status.get(); }
+    public CompletableFuture<Void> admitted() { return admitted; }
+
+    /**
+     * 1 means next through the door; 0 once admitted.
+     */
+    public long getPosition() {
+        return status.get() == TicketStatus.QUEUED ? Math.max(1, number - room.getReleasedCount()) : 0;
+    }
+
+    public long getEtaMillis() {
+        return (long) (getPosition() * 1000 / room.getAdmitsPerSecond());
+    }
+
+    /**
+     * Leaves the queue. The ticket stays in the FIFO and is skipped without using a token.
+     */
+    public boolean abandon() {
+        return status.compareAndSet(TicketStatus.QUEUED, TicketStatus.ABANDONED);
+    }
+
+    boolean admit() {
+        if (status.compareAndSet(TicketStatus.QUEUED, TicketStatus.ADMITTED)) {
+            admitted.complete(null);
+            return true;
+        }
+        return false;
+    }
+
+    void reject() {
+        if (status.compareAndSet(TicketStatus.QUEUED, TicketStatus.REJECTED)) {
+            admitted.cancel(false);
+        }
+    }
+}
+
+class WaitingRoom {
+    private static final long CLOSED = 1L << 62; // Set in issued once the room is closed
+
+    private final BlockingQueue<QueueTicket> queue;
+    private final int capacity;
+    private final double admitsPerSecond;
+    private final double burst;
+    private final AtomicLong issued = new AtomicLong();
+    private volatile long released; // Tickets taken off the queue so far; only the ticker writes it
+    private double tokens;           // Only the ticker touches the bucket
+
+    WaitingRoom(int capacity, double admitsPerSecond) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.admitsPerSecond = admitsPerSecond;
+        this.burst = Math.max(1, admitsPerSecond / 10);
+    }
+
+    QueueTicket join(String userId) {
+        // Take a number only while fewer than capacity tickets are out, so numbers are
+        // unique and the queue always has room for the ticket that got one. The number
+        // is only a hint for position; FIFO order is the queue's order. close() sets
+        // the CLOSED bit in the same counter, so no number is handed out after it.
+        long number;
+        do {
+            number = issued.get();
+            if ((number & CLOSED) != 0 || number - released >= capacity) {
+                return new QueueTicket(userId, 0, this, TicketStatus.REJECTED);
+            }
+        } while (!issued.compareAndSet(number, number + 1));
+        QueueTicket ticket = new QueueTicket(userId, number + 1, this, TicketStatus.QUEUED);
+        queue.add(ticket);
+        if ((issued.get() & CLOSED) != 0) {
+            ticket.reject(); // Took a number just before close() and may have missed its drain
+        }
+        return ticket;
+    }
+
+    void admit(long elapsedMillis) {
+        tokens = Math.min(burst, tokens + admitsPerSecond * elapsedMillis / 1000.0);
+        while (tokens >= 1) {
+            QueueTicket ticket = queue.poll();
+            if (ticket == null) {
+                return;
+            }
+            released++;
+            if (ticket.admit()) {
+                tokens--;
+            }
+        }
+    }
+
+    void close() {
+        issued.getAndUpdate(number -> number | CLOSED);
+        QueueTicket ticket;
+        while ((ticket = queue.poll()) != null) {
+            ticket.reject();
+        }
+    }
+
+    long getReleasedCount() { return released; }
+    double getAdmitsPerSecond() { return admitsPerSecond; }
+}
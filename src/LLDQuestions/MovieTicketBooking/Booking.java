@@ -0,0 +1,20 @@
+package LLDQuestions.MovieTicketBooking;
+
+import java.util.List;
+
+class Booking {
+    String id;
+    String userId;
+    Show show;
+    List<Seat> bookedSeats;
+
+    public Booking(String id, String userId, Show show, List<Seat> bookedSeats) {
+        this.id = id;
+        this.userId = userId;
+        this.show = show;
+        this.bookedSeats = bookedSeats;
+    }
+    @Override public String toString() {
+        return "Booking ID: " + id + ", User: " + userId + ", Movie: " + show.getMovie().getTitle() + ", Seats: " + bookedSeats;
+    }
+}
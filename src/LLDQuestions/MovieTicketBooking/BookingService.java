@@ -0,0 +1,166 @@
+package LLDQuestions.MovieTicketBooking;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// The main service (Singleton)
+class BookingService {
+    // The single, volatile instance for the Singleton pattern
+    private static volatile BookingService instance;
+
+    private final Map<String, Show> shows;
+    private final Map<String, ShowBookingLog> bookings; // Map of showId to its append-only booking log
+    private final Map<String, Booking> bookingsById = new ConcurrentHashMap<>();
+    private final AtomicLong bookingSequence = new AtomicLong();
+    private final Map<String, SeatHold> holds = new ConcurrentHashMap<>(); // Only HELD holds
+    private final Map<String, AtomicInteger> heldSeatCounts = new ConcurrentHashMap<>(); // showId -> seats in HELD
+    private final AtomicLong holdSequence = new AtomicLong();
+    private final HoldTimingWheel holdTimer;
+
+    // Private constructor to prevent direct instantiation
+    private BookingService() {
+        this.shows = new ConcurrentHashMap<>();
+        this.bookings = new ConcurrentHashMap<>();
+        // 100ms ticks, 1024 slots: one rotation is ~102s, longer holds just go round again
+        this.holdTimer = new HoldTimingWheel(100, 1024, this::expireHold);
+    }
+
+    // Thread-safe getInstance method with double-checked locking
+    public static BookingService getInstance() {
+        if (instance == null) {
+            synchronized (BookingService.class) {
+                if (instance == null) {
+                    instance = new BookingService();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public void addShow(Show show) {
+        shows.put(show.getId(), show);
+        bookings.putIfAbsent(show.getId(), new ShowBookingLog());
+        heldSeatCounts.put(show.getId(), new AtomicInteger());
+    }
+
+    /**
+     * Claims the seats for checkout. They count as taken in the show's seat bitmap,
+     * so availability queries exclude them without looking at any holds. Returns
+     * null if any seat is already held or booked.
+     */
+    public SeatHold holdSeats(String userId, Show show, List<Seat> seatsToHold, long ttlMillis) {
+        int[] seatIndexes = seatsToHold.stream().mapToInt(Seat::getIndex).toArray();
+        if (!show.getInventory().tryClaim(seatIndexes)) {
+            return null;
+        }
+        return registerHold(userId, show, seatsToHold, seatIndexes, ttlMillis);
+    }
+
+    /**
+     * Holds the best block of count adjacent seats instead of seats the user picked.
+     * Returns null if no row in the preferred range has enough adjacent free seats.
+     */
+    public SeatHold holdBestSeats(String userId, Show show, int count, SeatPreferences preferences, long ttlMillis) {
+        List<Seat> seats = SeatAllocator.allocateBest(show, count, preferences);
+        if (seats == null) {
+            return null;
+        }
+        return registerHold(userId, show, seats, seats.stream().mapToInt(Seat::getIndex).toArray(), ttlMillis);
+    }
+
+    private SeatHold registerHold(String userId, Show show, List<Seat> seats, int[] seatIndexes, long ttlMillis) {
+        String holdId = "H-" + holdSequence.incrementAndGet();
+        SeatHold hold = new SeatHold(holdId, userId, show, seats, seatIndexes, holdTimer.nowMillis() + ttlMillis);
+        heldSeatCounts.get(show.getId()).addAndGet(seatIndexes.length);
+        holds.put(holdId, hold);
+        holdTimer.schedule(hold);
+        return hold;
+    }
+
+    /**
+     * Turns a live hold into a booking. Returns null if the hold already expired or was released.
+     */
+    public Booking confirmHold(String holdId) {
+        SeatHold hold = holds.get(holdId);
+        if (hold == null) {
+            return null;
+        }
+        if (hold.getExpiresAtMillis() <= holdTimer.nowMillis()) {
+            expireHold(hold); // The timing wheel may not have ticked yet; the clock decides
+            return null;
+        }
+        if (!hold.finish(HoldStatus.CONFIRMED)) {
+            return null;
+        }
+        holds.remove(holdId);
+        heldSeatCounts.get(hold.getShow().getId()).addAndGet(-hold.getSeatIndexes().length);
+        return recordBooking(hold.getUserId(), hold.getShow(), hold.getSeats());
+    }
+
+    public boolean releaseHold(String holdId) {
+        return endHold(holds.get(holdId), HoldStatus.RELEASED);
+    }
+
+    public int getHeldSeatCount(Show show) {
+        return heldSeatCounts.get(show.getId()).get();
+    }
+
+    private void expireHold(SeatHold hold) {
+        endHold(hold, HoldStatus.EXPIRED);
+    }
+
+    private boolean endHold(SeatHold hold, HoldStatus outcome) {
+        if (hold == null || !hold.finish(outcome)) {
+            return false;
+        }
+        holds.remove(hold.getId());
+        heldSeatCounts.get(hold.getShow().getId()).addAndGet(-hold.getSeatIndexes().length);
+        hold.getShow().getInventory().release(hold.getSeatIndexes());
+        return true;
+    }
+
+    /**
+     * Returns a point-in-time copy of the show's bookings; writers are never blocked.
+     */
+    public List<Booking> getBookingByShow(Show show) {
+        ShowBookingLog log = bookings.get(show.getId());
+        return log == null ? List.of() : log.snapshot();
+    }
+
+    public Booking getBookingById(String bookingId) {
+        return bookingsById.get(bookingId);
+    }
+
+    private Booking recordBooking(String userId, Show show, List<Seat> seats) {
+        String bookingId = "B-" + bookingSequence.incrementAndGet();
+        Booking newBooking = new Booking(bookingId, userId, show, List.copyOf(seats));
+        bookingsById.put(bookingId, newBooking);
+        bookings.get(show.getId()).append(newBooking);
+        return newBooking;
+    }
+
+    /**
+     * Creates a booking for a user for a specific show and seats.
+     * All seats are claimed in one atomic step on the show's seat bitmap, so there are
+     * no per-seat locks to take in the wrong order and nothing to unlock on failure.
+     * Returns the new booking, or null if any seat was already taken.
+     */
+    public Booking createBooking(String userId, Show show, List<Seat> seatsToBook) {
+        int[] seatIndexes = new int[seatsToBook.size()];
+        for (int i = 0; i < seatIndexes.length; i++) {
+            seatIndexes[i] = seatsToBook.get(i).getIndex();
+        }
+
+        if (!show.getInventory().tryClaim(seatIndexes)) {
+            System.out.println("Thread " + Thread.currentThread().getId() + " (" + userId + "): Booking failed. One of " + seatsToBook + " is already booked.");
+            return null;
+        }
+
+        Booking newBooking = recordBooking(userId, show, seatsToBook);
+        System.out.println("Thread " + Thread.currentThread().getId() + " (" + userId + "): Booking SUCCESSFUL! ID: " + newBooking.id);
+        return newBooking;
+    }
+}
@@ -0,0 +1,7 @@
+package LLDQuestions.MovieTicketBooking;
+
+class Cinema {
+    String id;
+    String name;
+    public Cinema(String id, String name) { this.id = id; this.name = name; }
+}
@@ -0,0 +1,3 @@
+package LLDQuestions.MovieTicketBooking;
+
+enum HoldStatus { HELD, CONFIRMED, RELEASED, EXPIRED }
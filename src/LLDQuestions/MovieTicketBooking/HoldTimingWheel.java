@@ -0,0 +1,93 @@
+package LLDQuestions.MovieTicketBooking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A hashed timing wheel that expires seat holds.
+ *
+ * schedule() is O(1): it only appends to a lock-free pending queue. A single ticker
+ * thread owns the wheel, moves pending holds into their slot once per tick, and
+ * fires every hold in the current slot whose deadline has passed. Confirmed or
+ * released holds are not removed from the wheel; they are skipped when their slot
+ * comes round, so cancelling a timer is O(1) too.
+ */
+public class HoldTimingWheel {
+    private final long tickMillis;
+    private final List<List<SeatHold>> slots;
+    private final int mask;
+    private final Queue<SeatHold> pending = new ConcurrentLinkedQueue<>();
+    private final Consumer<SeatHold> onExpire;
+    private final long startNanos = System.nanoTime();
+    private final ScheduledExecutorService ticker;
+    private long currentTick; // Only touched by the ticker thread
+
+    public HoldTimingWheel(long tickMillis, int wheelSize, Consumer<SeatHold> onExpire) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two.");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.mask = wheelSize - 1;
+        this.onExpire = onExpire;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "hold-timing-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Arms the hold's expiry timer. The deadline is rounded up to the next tick.
+     */
+    public void schedule(SeatHold hold) {
+        pending.add(hold);
+    }
+
+    public long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private void tick() {
+        currentTick++;
+        SeatHold hold;
+        while ((hold = pending.poll()) != null) {
+            // Anything already due goes into the slot we are about to fire
+            long deadlineTick = Math.max(currentTick, (hold.getExpiresAtMillis() + tickMillis - 1) / tickMillis);
+            slots.get((int) (deadlineTick & mask)).add(hold);
+        }
+
+        List<SeatHold> slot = slots.get((int) (currentTick & mask));
+        List<SeatHold> notYetDue = new ArrayList<>();
+        for (SeatHold candidate : slot) {
+            if (!candidate.isActive()) {
+                continue; // confirmed or released since it was scheduled
+            }
+            if (candidate.getExpiresAtMillis() <= currentTick * tickMillis) {
+                try {
+                    onExpire.accept(candidate);
+                } catch (RuntimeException e) {
+                    System.out.println("Hold expiry failed for " + candidate.getId() + ": " + e.getMessage());
+                }
+            } else {
+                notYetDue.add(candidate); // due in a later rotation of the wheel
+            }
+        }
+        slot.clear();
+        slot.addAll(notYetDue);
+    }
+
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+}
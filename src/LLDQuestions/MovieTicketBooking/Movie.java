@@ -0,0 +1,8 @@
+package LLDQuestions.MovieTicketBooking;
+
+class Movie {
+    String id;
+    String title;
+    public Movie(String id, String title) { this.id = id; this.title = title; }
+    public String getTitle() { return title; }
+}
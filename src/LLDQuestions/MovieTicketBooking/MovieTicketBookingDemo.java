@@ -1,11 +1,6 @@
 package LLDQuestions.MovieTicketBooking;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Main demo class to simulate concurrent ticket booking.
@@ -50,182 +45,45 @@ public class MovieTicketBookingDemo {
         thread2.join();
 
         System.out.println("\n--- Final State of Seat A1 ---");
-        System.out.println("Seat A1 is booked: " + seatToBook.isBooked());
+        System.out.println("Seat A1 is booked: " + show1.isBooked(seatToBook));
         System.out.println("Booking details: " + bookingService.getBookingByShow(show1).get(0));
-    }
-}
-
-// --- Models ---
-class Movie {
-    String id;
-    String title;
-    public Movie(String id, String title) { this.id = id; this.title = title; }
-    public String getTitle() { return title; }
-}
-
-class Cinema {
-    String id;
-    String name;
-    public Cinema(String id, String name) { this.id = id; this.name = name; }
-}
-
-class Screen {
-    String id;
-    Cinema cinema;
-    Map<String, Seat> seats = new HashMap<>();
-
-    public Screen(String id, Cinema cinema) {
-        this.id = id;
-        this.cinema = cinema;
-        // Create a simple 5x5 grid of seats
-        for (char row = 'A'; row <= 'E'; row++) {
-            for (int i = 1; i <= 5; i++) {
-                String seatId = "" + row + i;
-                seats.put(seatId, new Seat(seatId, row, i));
-            }
-        }
-    }
-    public Seat getSeat(String seatId) { return seats.get(seatId); }
-}
 
-class Seat {
-    String id;
-    char row;
-    int number;
-    private boolean isBooked;
-    private final Lock lock = new ReentrantLock(); // Each seat has its own lock
-
-    public Seat(String id, char row, int number) {
-        this.id = id;
-        this.row = row;
-        this.number = number;
-        this.isBooked = false;
+        // --- Opposite lock orders used to deadlock; the bitmap claim cannot ---
+        System.out.println("\n--- Two users book {B1, E5} and {E5, B1} in opposite orders, 10,000 times each ---");
+        Show show2 = new Show("SH02", movie, screen1, "2025-08-20T22:00:00");
+        bookingService.addShow(show2);
+        Seat b1 = screen1.getSeat("B1");
+        Seat e5 = screen1.getSeat("E5");
+        Thread forward = new Thread(() -> bookAndCancel(show2, List.of(b1, e5)));
+        Thread backward = new Thread(() -> bookAndCancel(show2, List.of(e5, b1)));
+        forward.start();
+        backward.start();
+        forward.join();
+        backward.join();
+        System.out.println("Finished without deadlock. Show SH02: " + show2.getInventory());
+
+        // --- Checkout: seats are held while the user pays, then confirmed or auto-released ---
+        System.out.println("\n--- Tushit holds C3,C4 and pays; Ankit holds D3,D4 and abandons checkout ---");
+        SeatHold paid = bookingService.holdSeats("USER-Tushit", show2, List.of(screen1.getSeat("C3"), screen1.getSeat("C4")), 300);
+        SeatHold abandoned = bookingService.holdSeats("USER-Ankit", show2, List.of(screen1.getSeat("D3"), screen1.getSeat("D4")), 300);
+        System.out.println("While held, show SH02: " + show2.getInventory() + " (" + bookingService.getHeldSeatCount(show2) + " held)");
+        System.out.println("Tushit confirms: " + bookingService.confirmHold(paid.getId()));
+        Thread.sleep(600);
+        System.out.println("Ankit's hold is now " + abandoned.getStatus() + ". Show SH02: " + show2.getInventory());
+        System.out.println("Ankit confirms too late: " + bookingService.confirmHold(abandoned.getId()));
+
+        // --- Best available: the user asks for a count, not for specific seats ---
+        SeatHold family = bookingService.holdBestSeats("USER-Deepak", show2, 3, SeatPreferences.anywhere(), 60_000);
+        System.out.println("\nDeepak asks for the best 3 adjacent seats and gets "
+            + (family != null ? family.getSeats() : "nothing, no 3 adjacent seats are free"));
     }
 
-    public boolean isBooked() { return isBooked; }
-    public void book() { this.isBooked = true; }
-    public void cancel() { this.isBooked = false; }
-    public Lock getLock() { return lock; }
-    @Override public String toString() { return id; }
-}
-
-class Show {
-    String id;
-    Movie movie;
-    Screen screen;
-    String showTime; // Using String for simplicity
-
-    public Show(String id, Movie movie, Screen screen, String showTime) {
-        this.id = id;
-        this.movie = movie;
-        this.screen = screen;
-        this.showTime = showTime;
-    }
-    public String getId() { return id; }
-    public Movie getMovie() { return movie; }
-    public Screen getScreen() { return screen; }
-}
-
-class Booking {
-    String id;
-    String userId;
-    Show show;
-    List<Seat> bookedSeats;
-
-    public Booking(String id, String userId, Show show, List<Seat> bookedSeats) {
-        this.id = id;
-        this.userId = userId;
-        this.show = show;
-        this.bookedSeats = bookedSeats;
-    }
-    @Override public String toString() {
-        return "Booking ID: " + id + ", User: " + userId + ", Movie: " + show.getMovie().getTitle() + ", Seats: " + bookedSeats;
-    }
-}
-
-// --- The Main Service (Singleton) ---
-class BookingService {
-    // The single, volatile instance for the Singleton pattern
-    private static volatile BookingService instance;
-
-    private final Map<String, Show> shows;
-    private final Map<String, List<Booking>> bookings; // Map of showId to list of bookings
-
-    // Private constructor to prevent direct instantiation
-    private BookingService() {
-        this.shows = new HashMap<>();
-        this.bookings = new HashMap<>();
-    }
-
-    // Thread-safe getInstance method with double-checked locking
-    public static BookingService getInstance() {
-        if (instance == null) {
-            synchronized (BookingService.class) {
-                if (instance == null) {
-                    instance = new BookingService();
-                }
-            }
-        }
-        return instance;
-    }
-
-    public void addShow(Show show) {
-        shows.put(show.getId(), show);
-        bookings.put(show.getId(), new ArrayList<>());
-    }
-
-    public List<Booking> getBookingByShow(Show show) {
-        return bookings.get(show.getId());
-    }
-
-    /**
-     * Creates a booking for a user for a specific show and seats.
-     * This method is the critical section that handles concurrency.
-     */
-    public void createBooking(String userId, Show show, List<Seat> seatsToBook) {
-        // 1. Check if all requested seats are available first.
-        for (Seat seat : seatsToBook) {
-            if (seat.isBooked()) {
-                System.out.println("Thread " + Thread.currentThread().getId() + " (" + userId + "): Booking failed. Seat " + seat.id + " is already booked.");
-                return;
-            }
-        }
-
-        // 2. Lock all the seats to prevent another thread from booking them.
-        // This is a simplified locking strategy. A real system might sort seat IDs
-        // to acquire locks in a consistent order to prevent deadlocks.
-        for (Seat seat : seatsToBook) {
-            seat.getLock().lock();
-        }
-
-        try {
-            // 3. Re-check availability AFTER acquiring the locks (critical step).
-            // Another thread might have booked the seat between the first check and now.
-            for (Seat seat : seatsToBook) {
-                if (seat.isBooked()) {
-                    System.out.println("Thread " + Thread.currentThread().getId() + " (" + userId + "): Booking failed after lock. Seat " + seat.id + " was booked by another user.");
-                    // Release locks for all seats if any one is not available
-                    for(Seat s : seatsToBook) s.getLock().unlock();
-                    return;
-                }
-            }
-
-            // 4. If all seats are still available, proceed with booking.
-            for (Seat seat : seatsToBook) {
-                seat.book();
-            }
-
-            String bookingId = "B-" + (int)(Math.random() * 1000);
-            Booking newBooking = new Booking(bookingId, userId, show, seatsToBook);
-            bookings.get(show.getId()).add(newBooking);
-            System.out.println("Thread " + Thread.currentThread().getId() + " (" + userId + "): Booking SUCCESSFUL! ID: " + bookingId);
-
-        } finally {
-            // 5. ALWAYS release the locks in a finally block.
-            for (Seat seat : seatsToBook) {
-                seat.getLock().unlock();
+    private static void bookAndCancel(Show show, List<Seat> seats) {
+        int[] indexes = seats.stream().mapToInt(Seat::getIndex).toArray();
+        for (int i = 0; i < 10_000; i++) {
+            if (show.getInventory().tryClaim(indexes)) {
+                show.getInventory().release(indexes);
             }
         }
     }
 }
-
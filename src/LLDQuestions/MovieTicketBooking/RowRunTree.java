@@ -0,0 +1,110 @@
+package LLDQuestions.MovieTicketBooking;
+
+/**
+ * A segment tree over one row: each node knows its longest free run and the free runs
+ * touching its left and right edges, so the longest run in a row is the root's value.
+ */
+class RowRunTree {
+    private final int size;
+    private final int[] prefix;
+    private final int[] suffix;
+    private final int[] longest;
+
+    public RowRunTree(int size) {
+        this.size = size;
+        this.prefix = new int[4 * size];
+        this.suffix = new int[4 * size];
+        this.longest = new int[4 * size];
+        build(1, 0, size - 1);
+    }
+
+    private void build(int node, int lo, int hi) {
+        if (lo == hi) {
+            prefix[node] = suffix[node] = longest[node] = 1;
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        build(2 * node, lo, mid);
+        build(2 * node + 1, mid + 1, hi);
+        pull(node, lo, mid, hi);
+    }
+
+    public synchronized void set(int position, boolean free) {
+        update(1, 0, size - 1, position, free ? 1 : 0);
+    }
+
+    private void update(int node, int lo, int hi, int position, int value) {
+        if (lo == hi) {
+            prefix[node] = suffix[node] = longest[node] = value;
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (position <= mid) {
+            update(2 * node, lo, mid, position, value);
+        } else {
+            update(2 * node + 1, mid + 1, hi, position, value);
+        }
+        pull(node, lo, mid, hi);
+    }
+
+    private void pull(int node, int lo, int mid, int hi) {
+        int left = 2 * node;
+        int right = 2 * node + 1;
+        prefix[node] = prefix[left] == mid - lo + 1 ? prefix[left] + prefix[right] : prefix[left];
+        suffix[node] = suffix[right] == hi - mid ? suffix[right] + suffix[left] : suffix[right];
+        longest[node] = Math.max(Math.max(longest[left], longest[right]), suffix[left] + prefix[right]);
+    }
+
+    /**
+     * Returns the start of the free block of count seats whose start is closest to
+     * idealStart, or -1 if the row has no such block.
+     */
+    public synchronized int findNearest(int count, int idealStart) {
+        if (longest[1] < count) {
+            return -1;
+        }
+        int right = findFirst(1, 0, size - 1, idealStart, count, new int[1]);
+        int left = findLast(1, 0, size - 1, idealStart + count - 1, count, new int[1]);
+        if (right < 0) return left;
+        if (left < 0) return right;
+        return idealStart - left <= right - idealStart ? left : right;
+    }
+
+    // Leftmost block starting at or after from; carry[0] is the free run just before lo.
+    private int findFirst(int node, int lo, int hi, int from, int count, int[] carry) {
+        if (hi < from) {
+            return -1;
+        }
+        if (lo >= from) {
+            if (carry[0] + prefix[node] >= count) {
+                return lo - carry[0];
+            }
+            if (longest[node] < count) {
+                carry[0] = prefix[node] == hi - lo + 1 ? carry[0] + prefix[node] : suffix[node];
+                return -1;
+            }
+        }
+        int mid = (lo + hi) >>> 1;
+        int found = findFirst(2 * node, lo, mid, from, count, carry);
+        return found >= 0 ? found : findFirst(2 * node + 1, mid + 1, hi, from, count, carry);
+    }
+
+    // Rightmost block ending at or before to; carry[0] is the free run just after hi.
+    private int findLast(int node, int lo, int hi, int to, int count, int[] carry) {
+        if (lo > to) {
+            return -1;
+        }
+        if (hi <= to) {
+            if (carry[0] + suffix[node] >= count) {
+                return hi + carry[0] - count + 1;
+            }
+            if (longest[node] < count) {
+                carry[0] = suffix[node] == hi - lo + 1 ? carry[0] + suffix[node] : prefix[node];
+                return -1;
+            }
+        }
+        int mid = (lo + hi) >>> 1;
+        int found = findLast(2 * node + 1, mid + 1, hi, to, count, carry);
+        return found >= 0 ? found : findLast(2 * node, lo, mid, to, count, carry);
+    }
+}
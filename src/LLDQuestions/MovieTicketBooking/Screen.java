@@ -0,0 +1,45 @@
+package LLDQuestions.MovieTicketBooking;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class Screen {
+    String id;
+    Cinema cinema;
+    Map<String, Seat> seats = new HashMap<>();
+    Seat[] seatsByIndex;
+    int rowCount;
+    int seatsPerRow;
+
+    public Screen(String id, Cinema cinema) {
+        // Create a simple 5x5 grid of seats
+        this(id, cinema, 5, 5);
+    }
+
+    public Screen(String id, Cinema cinema, int rowCount, int seatsPerRow) {
+        this.id = id;
+        this.cinema = cinema;
+        this.rowCount = rowCount;
+        this.seatsPerRow = seatsPerRow;
+        this.seatsByIndex = new Seat[rowCount * seatsPerRow];
+        for (int r = 0; r < rowCount; r++) {
+            for (int i = 1; i <= seatsPerRow; i++) {
+                String seatId = rowLabel(r) + i;
+                Seat seat = new Seat(seatId, r, i, r * seatsPerRow + (i - 1));
+                seats.put(seatId, seat);
+                seatsByIndex[seat.getIndex()] = seat;
+            }
+        }
+    }
+
+    // A..Z, then AA, AB, ... for large auditoriums
+    private static String rowLabel(int row) {
+        return row < 26 ? String.valueOf((char) ('A' + row)) : rowLabel(row / 26 - 1) + (char) ('A' + row % 26);
+    }
+
+    public Seat getSeat(String seatId) { return seats.get(seatId); }
+    public Seat getSeat(int index) { return seatsByIndex[index]; }
+    public int getSeatCount() { return seatsByIndex.length; }
+    public int getRowCount() { return rowCount; }
+    public int getSeatsPerRow() { return seatsPerRow; }
+}
@@ -0,0 +1,18 @@
+package LLDQuestions.MovieTicketBooking;
+
+class Seat {
+    String id;
+    int row;
+    int number;
+    private final int index; // Row-major position of this seat in its show's SeatInventory
+
+    public Seat(String id, int row, int number, int index) {
+        this.id = id;
+        this.row = row;
+        this.number = number;
+        this.index = index;
+    }
+
+    public int getIndex() { return index; }
+    @Override public String toString() { return id; }
+}
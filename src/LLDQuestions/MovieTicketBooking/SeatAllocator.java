@@ -0,0 +1,98 @@
+package LLDQuestions.MovieTicketBooking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Finds and claims N adjacent free seats nearest the centre of the screen.
+ *
+ * Each show keeps a SeatRunIndex: one segment tree per row over that row's free
+ * seats, kept in step with the show's SeatInventory. A row can be ruled out in O(1)
+ * from its longest free run, and the fit nearest the centre of a row is found in
+ * O(log seatsPerRow). The trees are only a guide; the seats are then claimed through
+ * the inventory's CAS, and a lost race simply retries on the updated trees.
+ */
+public class SeatAllocator {
+    private static final int MAX_ATTEMPTS = 16;
+
+    /**
+     * Claims the best block of count adjacent seats in one row, or returns null if no
+     * row within the preferred range has such a block. The caller owns the claimed
+     * seats and must book, hold or release them. Throws IllegalArgumentException if
+     * count is less than 1 or more than a row holds.
+     */
+    public static List<Seat> allocateBest(Show show, int count, SeatPreferences preferences) {
+        Screen screen = show.getScreen();
+        if (count < 1 || count > screen.getSeatsPerRow()) {
+            throw new IllegalArgumentException("Cannot seat " + count + " together in rows of " + screen.getSeatsPerRow() + ".");
+        }
+        SeatRunIndex index = show.getRunIndex();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int[] best = index.findBest(count, preferences);
+            if (best == null) {
+                return null;
+            }
+            int first = best[0] * screen.getSeatsPerRow() + best[1];
+            int[] seatIndexes = new int[count];
+            for (int i = 0; i < count; i++) {
+                seatIndexes[i] = first + i;
+            }
+            if (show.getInventory().tryClaim(seatIndexes)) {
+                List<Seat> seats = new ArrayList<>(count);
+                for (int seatIndex : seatIndexes) {
+                    seats.add(screen.getSeat(seatIndex));
+                }
+                return seats;
+            }
+        }
+        return null;
+    }
+
+    // --- Demo: a 5,000 seat auditorium with many concurrent group requests ---
+
+    public static void main(String[] args) throws InterruptedException {
+        Cinema cinema = new Cinema("C01", "PVR Forum Mall, Bengaluru");
+        Screen imax = new Screen("IMAX", cinema, 100, 50);
+        Show show = new Show("SH-IMAX", new Movie("M01", "Dune: Part Two"), imax, "2025-08-20T19:00:00");
+
+        System.out.println("First three groups of 4 get the centre seats:");
+        for (int i = 0; i < 3; i++) {
+            System.out.println("  " + allocateBest(show, 4, SeatPreferences.anywhere()));
+        }
+        System.out.println("A group of 6 limited to the back 10 rows: "
+            + allocateBest(show, 6, SeatPreferences.betweenRows(90, 99)));
+
+        // Sell out the rest with 16 concurrent requesters asking for 1-8 seats each
+        AtomicInteger allocatedSeats = new AtomicInteger(show.getScreen().getSeatCount() - show.getInventory().availableCount());
+        AtomicInteger requests = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        long begin = System.nanoTime();
+        for (int t = 0; t < 16; t++) {
+            executor.execute(() -> {
+                int misses = 0;
+                while (misses < 50) {
+                    int count = 1 + ThreadLocalRandom.current().nextInt(8);
+                    List<Seat> seats = allocateBest(show, count, SeatPreferences.anywhere());
+                    requests.incrementAndGet();
+                    if (seats == null) {
+                        misses++;
+                    } else {
+                        allocatedSeats.addAndGet(seats.size());
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin);
+
+        System.out.println(String.format("%,d requests in %,dus (%.2fus each)", requests.get(), micros, (double) micros / requests.get()));
+        System.out.println("Seats allocated: " + allocatedSeats.get() + ", seats taken in bitmap: "
+            + (show.getScreen().getSeatCount() - show.getInventory().availableCount()) + " (must match)");
+    }
+}
@@ -0,0 +1,37 @@
+package LLDQuestions.MovieTicketBooking;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Seats reserved for one user during checkout. A hold leaves HELD exactly once,
+ * so confirm, release and expiry can race without double-processing.
+ */
+class SeatHold {
+    private final String id;
+    private final String userId;
+    private final Show show;
+    private final List<Seat> seats;
+    private final int[] seatIndexes;
+    private final long expiresAtMillis;
+    private final AtomicReference<HoldStatus> status = new AtomicReference<>(HoldStatus.HELD);
+
+    public SeatHold(String id, String userId, Show show, List<Seat> seats, int[] seatIndexes, long expiresAtMillis) {
+        this.id = id;
+        this.userId = userId;
+        this.show = show;
+        this.seats = seats;
+        this.seatIndexes = seatIndexes;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public String getId() { return id; }
+    public String getUserId() { return userId; }
+    public Show getShow() { return show; }
+    public List<Seat> getSeats() { return seats; }
+    public int[] getSeatIndexes() { return seatIndexes; }
+    public long getExpiresAtMillis() { return expiresAtMillis; }
+    public HoldStatus getStatus() { return status.get(); }
+    public boolean isActive() { return status.get() == HoldStatus.HELD; }
+    public boolean finish(HoldStatus outcome) { return status.compareAndSet(HoldStatus.HELD, outcome); }
+}
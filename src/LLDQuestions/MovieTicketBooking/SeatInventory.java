@@ -0,0 +1,164 @@
+package LLDQuestions.MovieTicketBooking;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-show seat state as a bitmap: bit i of the AtomicLongArray is set when seat i
+ * (row-major index on the screen) is taken.
+ *
+ * Claiming seats that all live in one 64-bit word is a single lock-free CAS. A claim
+ * that spans several words locks just those words, always in ascending word order, so
+ * two multi-word claims can never deadlock, and then CASes each word in turn, rolling
+ * back if a lock-free claim got to one of the seats first.
+ *
+ * A single-word claim may run into the bits of a multi-word claim that is about to
+ * roll back. So before it reports a conflict, it takes that word's lock and tries
+ * once more. Under the lock every bit it sees is committed, so a claim only fails
+ * if one of its seats really is taken.
+ */
+public class SeatInventory {
+    /**
+     * Told about every seat that changes state, after the change has committed.
+     */
+    public interface ChangeListener {
+        void onChange(int seatIndex, boolean taken);
+    }
+
+    private final int capacity;
+    private final AtomicLongArray taken;
+    private final ReentrantLock[] wordLocks;
+    private final ChangeListener listener;
+
+    public SeatInventory(int capacity) {
+        this(capacity, (seatIndex, taken) -> { });
+    }
+
+    public SeatInventory(int capacity, ChangeListener listener) {
+        this.capacity = capacity;
+        this.listener = listener;
+        int words = (capacity + 63) >>> 6;
+        this.taken = new AtomicLongArray(words);
+        this.wordLocks = new ReentrantLock[words];
+        for (int i = 0; i < words; i++) {
+            wordLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public int getCapacity() { return capacity; }
+
+    public boolean isTaken(int seatIndex) {
+        return (taken.get(seatIndex >>> 6) & (1L << seatIndex)) != 0;
+    }
+
+    public int availableCount() {
+        int taken = 0;
+        for (int i = 0; i < this.taken.length(); i++) {
+            taken += Long.bitCount(this.taken.get(i));
+        }
+        return capacity - taken;
+    }
+
+    /**
+     * Atomically claims every seat in seatIndexes, or none of them.
+     */
+    public boolean tryClaim(int[] seatIndexes) {
+        long[] masks = masksFor(seatIndexes);
+        int first = -1;
+        int last = -1;
+        for (int w = 0; w < masks.length; w++) {
+            if (masks[w] != 0) {
+                if (first < 0) first = w;
+                last = w;
+            }
+        }
+        if (first < 0) {
+            return false;
+        }
+        if (first == last) {
+            return (claimWord(first, masks[first]) || claimWordLocked(first, masks[first])) && notifyAll(seatIndexes, true);
+        }
+
+        // Multi-word claim: ordered locks keep multi-word claimers from starving each other
+        for (int w = first; w <= last; w++) {
+            if (masks[w] != 0) wordLocks[w].lock();
+        }
+        try {
+            for (int w = first; w <= last; w++) {
+                if (masks[w] != 0 && !claimWord(w, masks[w])) {
+                    for (int done = first; done < w; done++) {
+                        if (masks[done] != 0) releaseWord(done, masks[done]);
+                    }
+                    return false;
+                }
+            }
+            return notifyAll(seatIndexes, true);
+        } finally {
+            for (int w = last; w >= first; w--) {
+                if (masks[w] != 0) wordLocks[w].unlock();
+            }
+        }
+    }
+
+    /**
+     * Frees seats previously claimed by the caller.
+     */
+    public void release(int[] seatIndexes) {
+        long[] masks = masksFor(seatIndexes);
+        for (int w = 0; w < masks.length; w++) {
+            if (masks[w] != 0) releaseWord(w, masks[w]);
+        }
+        notifyAll(seatIndexes, false);
+    }
+
+    private boolean notifyAll(int[] seatIndexes, boolean taken) {
+        for (int seatIndex : seatIndexes) {
+            listener.onChange(seatIndex, taken);
+        }
+        return true;
+    }
+
+    private boolean claimWord(int word, long mask) {
+        long current;
+        do {
+            current = taken.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!taken.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    // Waits out any multi-word claim holding this word, then retries
+    private boolean claimWordLocked(int word, long mask) {
+        wordLocks[word].lock();
+        try {
+            return claimWord(word, mask);
+        } finally {
+            wordLocks[word].unlock();
+        }
+    }
+
+    private void releaseWord(int word, long mask) {
+        long current;
+        do {
+            current = taken.get(word);
+        } while (!taken.compareAndSet(word, current, current & ~mask));
+    }
+
+    private long[] masksFor(int[] seatIndexes) {
+        long[] masks = new long[taken.length()];
+        for (int seatIndex : seatIndexes) {
+            if (seatIndex < 0 || seatIndex >= capacity) {
+                throw new IllegalArgumentException("No such seat index: " + seatIndex);
+            }
+            masks[seatIndex >>> 6] |= 1L << seatIndex;
+        }
+        return masks;
+    }
+
+    @Override
+    public String toString() {
+        return availableCount() + "/" + capacity + " seats available";
+    }
+}
@@ -0,0 +1,20 @@
+package LLDQuestions.MovieTicketBooking;
+
+/**
+ * Which rows a requester will accept, and which row counts as "centre".
+ */
+class SeatPreferences {
+    final int firstRow;
+    final int lastRow;
+    final int idealRow; // -1 means the middle row of the screen
+
+    private SeatPreferences(int firstRow, int lastRow, int idealRow) {
+        this.firstRow = firstRow;
+        this.lastRow = lastRow;
+        this.idealRow = idealRow;
+    }
+
+    public static SeatPreferences anywhere() { return new SeatPreferences(0, Integer.MAX_VALUE, -1); }
+    public static SeatPreferences betweenRows(int firstRow, int lastRow) { return new SeatPreferences(firstRow, lastRow, -1); }
+    public static SeatPreferences nearRow(int idealRow) { return new SeatPreferences(0, Integer.MAX_VALUE, idealRow); }
+}
@@ -0,0 +1,71 @@
+package LLDQuestions.MovieTicketBooking;
+
+/**
+ * One RowRunTree per row of a show, updated by the show's SeatInventory.
+ *
+ * A release and a re-claim of the same seat can notify in either order, so an event
+ * does not carry its own value into the tree. Under the row's lock it re-reads the
+ * seat's bit, and whichever event runs last writes the bitmap's current state.
+ */
+class SeatRunIndex implements SeatInventory.ChangeListener {
+    private final int seatsPerRow;
+    private final RowRunTree[] rows;
+    private SeatInventory inventory;
+
+    public SeatRunIndex(int rowCount, int seatsPerRow) {
+        this.seatsPerRow = seatsPerRow;
+        this.rows = new RowRunTree[rowCount];
+        for (int r = 0; r < rowCount; r++) {
+            rows[r] = new RowRunTree(seatsPerRow);
+        }
+    }
+
+    void setInventory(SeatInventory inventory) {
+        this.inventory = inventory;
+    }
+
+    @Override
+    public void onChange(int seatIndex, boolean taken) {
+        RowRunTree row = rows[seatIndex / seatsPerRow];
+        synchronized (row) {
+            row.set(seatIndex % seatsPerRow, !inventory.isTaken(seatIndex));
+        }
+    }
+
+    /**
+     * Returns {row, firstSeatOffset, score} of the free block nearest the centre, scoring a
+     * block by its row distance plus its column distance from the ideal position.
+     */
+    int[] findBest(int count, SeatPreferences preferences) {
+        int firstRow = Math.max(0, preferences.firstRow);
+        int lastRow = Math.min(rows.length - 1, preferences.lastRow);
+        int idealRow = preferences.idealRow >= 0 ? preferences.idealRow : rows.length / 2;
+        idealRow = Math.max(firstRow, Math.min(lastRow, idealRow));
+        int idealStart = Math.max(0, (seatsPerRow - count) / 2);
+
+        int[] best = null;
+        // Walk rows outward from the ideal row; stop once row distance alone can't win
+        for (int distance = 0; best == null || distance < best[2]; distance++) {
+            if (idealRow - distance < firstRow && idealRow + distance > lastRow) {
+                break;
+            }
+            best = better(best, idealRow - distance, distance, count, idealStart, firstRow, lastRow);
+            if (distance > 0) {
+                best = better(best, idealRow + distance, distance, count, idealStart, firstRow, lastRow);
+            }
+        }
+        return best;
+    }
+
+    private int[] better(int[] best, int row, int distance, int count, int idealStart, int firstRow, int lastRow) {
+        if (row < firstRow || row > lastRow) {
+            return best;
+        }
+        int start = rows[row].findNearest(count, idealStart);
+        if (start < 0) {
+            return best;
+        }
+        int score = distance + Math.abs(start - idealStart);
+        return best == null || score < best[2] ? new int[] {row, start, score} : best;
+    }
+}
@@ -0,0 +1,26 @@
+package LLDQuestions.MovieTicketBooking;
+
+class Show {
+    String id;
+    Movie movie;
+    Screen screen;
+    String showTime; // Using String for simplicity
+    private final SeatInventory inventory; // Seat state belongs to the show, not the screen
+    private final SeatRunIndex runIndex; // Free runs per row, for best-available allocation
+
+    public Show(String id, Movie movie, Screen screen, String showTime) {
+        this.id = id;
+        this.movie = movie;
+        this.screen = screen;
+        this.showTime = showTime;
+        this.runIndex = new SeatRunIndex(screen.getRowCount(), screen.getSeatsPerRow());
+        this.inventory = new SeatInventory(screen.getSeatCount(), runIndex);
+        this.runIndex.setInventory(inventory);
+    }
+    public String getId() { return id; }
+    public Movie getMovie() { return movie; }
+    public Screen getScreen() { return screen; }
+    public SeatInventory getInventory() { return inventory; }
+    public SeatRunIndex getRunIndex() { return runIndex; }
+    public boolean isBooked(Seat seat) { return inventory.isTaken(seat.getIndex()); }
+}
@@ -0,0 +1,16 @@
+package LLDQuestions.MovieTicketBooking;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The bookings of one show, in the order they were made. Appends are lock-free and
+ * snapshots walk the queue without blocking concurrent appends.
+ */
+class ShowBookingLog {
+    private final Queue<Booking> entries = new ConcurrentLinkedQueue<>();
+
+    public void append(Booking booking) { entries.add(booking); }
+    public List<Booking> snapshot() { return List.copyOf(entries); }
+}
@@ -0,0 +1,127 @@
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free spot claiming for a lot with several entry gates.
+ *
+ * Each floor keeps, per spot type, an AtomicLongArray with one bit per free spot and
+ * a free count. A gate claims a spot by CAS-clearing its bit, then CAS-parking the
+ * vehicle on the spot itself; whoever wins the bit owns the spot, so two gates can
+ * never hand out the same one and no gate ever waits on a lock. Releasing is the
+ * reverse: unpark, then set the bit.
+ *
+ * Every gate has a home floor, spread evenly over the building, and searches from
+ * there upwards (wrapping round), so gates mostly CAS on different floors' words and
+ * only meet when their floors fill up.
+ */
+public class ConcurrentSpotAllocator implements ParkingStrategy {
+    private static final SpotType[] TYPES = SpotType.values();
+
+    private final List<ParkingFloor> floors;
+    private final int gates;
+    private final AtomicLongArray[][] free;   // [type][floor], bit = spot number
+    private final AtomicIntegerArray[] freeCount; // [type], index = floor
+
+    public ConcurrentSpotAllocator(List<ParkingFloor> floors, int gates) {
+        this.floors = floors;
+        this.gates = Math.max(1, gates);
+        this.free = new AtomicLongArray[TYPES.length][floors.size()];
+        this.freeCount = new AtomicIntegerArray[TYPES.length];
+        for (SpotType type : TYPES) {
+            freeCount[type.ordinal()] = new AtomicIntegerArray(floors.size());
+        }
+        for (ParkingFloor floor : floors) {
+            int words = (floor.getSpots().size() + 63) >>> 6;
+            for (SpotType type : TYPES) {
+                free[type.ordinal()][floor.getFloorNumber()] = new AtomicLongArray(words);
+            }
+            for (ParkingSpot spot : floor.getSpots()) {
+                if (!spot.isOccupied()) {
+                    markFree(spot);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
+    /**
+     * Finds without claiming, as gate 0 would. The answer may be stale by the time it
+     * is used; call claimSpot to actually take a spot.
+     */
+    @Override
+    public ParkingSpot findSpot(List<ParkingFloor> floors, Vehicle vehicle) {
+        for (int f = 0; f < this.floors.size(); f++) {
+            for (SpotType type : ParkingSpot.fittingTypes(vehicle.getType())) {
+                AtomicLongArray bits = free[type.ordinal()][f];
+                for (int w = 0; w < bits.length(); w++) {
+                    long word = bits.get(w);
+                    if (word != 0) {
+                        return this.floors.get(f).getSpots().get((w << 6) + Long.numberOfTrailingZeros(word));
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public ParkingSpot claimSpot(List<ParkingFloor> floors, Vehicle vehicle, int gate) {
+        int floorCount = this.floors.size();
+        int home = Math.floorMod(gate, gates) * floorCount / gates;
+        for (int i = 0; i < floorCount; i++) {
+            int floor = (home + i) % floorCount;
+            for (SpotType type : ParkingSpot.fittingTypes(vehicle.getType())) {
+                if (freeCount[type.ordinal()].get(floor) > 0) {
+                    ParkingSpot spot = claimOnFloor(type, floor, vehicle, gate);
+                    if (spot != null) {
+                        return spot;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void releaseSpot(ParkingSpot spot) {
+        spot.unpark();
+        markFree(spot);
+    }
+
+    private ParkingSpot claimOnFloor(SpotType type, int floor, Vehicle vehicle, int gate) {
+        AtomicLongArray bits = free[type.ordinal()][floor];
+        int words = bits.length();
+        // Gates sharing a floor start on different words
+        int start = Math.floorMod(gate, words);
+        for (int i = 0; i < words; i++) {
+            int w = (start + i) % words;
+            long word;
+            while ((word = bits.get(w)) != 0) {
+                long lowest = word & -word;
+                if (bits.compareAndSet(w, word, word & ~lowest)) {
+                    freeCount[type.ordinal()].decrementAndGet(floor);
+                    ParkingSpot spot = floors.get(floor).getSpots().get((w << 6) + Long.numberOfTrailingZeros(lowest));
+                    if (spot.tryPark(vehicle)) {
+                        return spot;
+                    }
+                    // Parked behind the allocator's back; leave its bit clear and keep looking
+                }
+            }
+        }
+        return null;
+    }
+
+    private void markFree(ParkingSpot spot) {
+        int type = spot.getType().ordinal();
+        int floor = spot.getFloor().getFloorNumber();
+        int number = spot.getSpotNumber();
+        long bit = 1L << number;
+        free[type][floor].getAndAccumulate(number >>> 6, bit, (word, b) -> word | b);
+        freeCount[type].incrementAndGet(floor);
+    }
+}
@@ -0,0 +1,15 @@
+import java.util.List;
+
+class DefaultParkingStrategy implements ParkingStrategy {
+    @Override
+    public ParkingSpot findSpot(List<ParkingFloor> floors, Vehicle vehicle) {
+        for (ParkingFloor floor : floors) {
+            for (ParkingSpot spot : floor.getSpots()) {
+                if (spot.canFitVehicle(vehicle)) {
+                    return spot;
+                }
+            }
+        }
+        return null; // No spot found
+    }
+}
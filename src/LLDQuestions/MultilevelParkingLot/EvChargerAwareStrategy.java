@@ -0,0 +1,59 @@
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Keeps charger spots for electric vehicles: an EV gets the lowest free charger spot
+ * that fits and only falls back to a plain one when none is left, while other vehicles
+ * take a plain spot first. Each pool is a TreeSet per spot type ordered by floor and
+ * spot number, so both cases are O(log n).
+ */
+class EvChargerAwareStrategy implements ParkingStrategy {
+    private final Map<SpotType, TreeSet<ParkingSpot>> chargers = new EnumMap<>(SpotType.class);
+    private final Map<SpotType, TreeSet<ParkingSpot>> plain = new EnumMap<>(SpotType.class);
+
+    public EvChargerAwareStrategy(List<ParkingFloor> floors) {
+        Comparator<ParkingSpot> lowest = Comparator.<ParkingSpot>comparingInt(spot -> spot.getFloor().getFloorNumber())
+            .thenComparingInt(ParkingSpot::getSpotNumber);
+        for (SpotType type : SpotType.values()) {
+            chargers.put(type, new TreeSet<>(lowest));
+            plain.put(type, new TreeSet<>(lowest));
+        }
+        for (ParkingFloor floor : floors) {
+            for (ParkingSpot spot : floor.getSpots()) {
+                if (!spot.isOccupied()) {
+                    onSpotFreed(spot);
+                }
+            }
+        }
+    }
+
+    @Override
+    public ParkingSpot findSpot(List<ParkingFloor> floors, Vehicle vehicle) {
+        SpotType[] fitting = ParkingSpot.fittingTypes(vehicle.getType());
+        ParkingSpot spot = first(vehicle.isElectric() ? chargers : plain, fitting);
+        return spot != null ? spot : first(vehicle.isElectric() ? plain : chargers, fitting);
+    }
+
+    private static ParkingSpot first(Map<SpotType, TreeSet<ParkingSpot>> pool, SpotType[] fitting) {
+        for (SpotType type : fitting) {
+            TreeSet<ParkingSpot> free = pool.get(type);
+            if (!free.isEmpty()) {
+                return free.first();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void onSpotTaken(ParkingSpot spot) {
+        (spot.hasCharger() ? chargers : plain).get(spot.getType()).remove(spot);
+    }
+
+    @Override
+    public void onSpotFreed(ParkingSpot spot) {
+        (spot.hasCharger() ? chargers : plain).get(spot.getType()).add(spot);
+    }
+}
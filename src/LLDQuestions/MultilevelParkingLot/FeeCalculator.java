@@ -0,0 +1,21 @@
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Hourly rates by spot type; every started hour is charged, with a one-hour minimum.
+ */
+class FeeCalculator {
+    private static final long HOUR = 60L * 60 * 1000;
+    private final Map<SpotType, Double> hourlyRates = new EnumMap<>(SpotType.class);
+
+    public FeeCalculator() {
+        hourlyRates.put(SpotType.MOTORCYCLE_SPOT, 10.0);
+        hourlyRates.put(SpotType.COMPACT_SPOT, 20.0);
+        hourlyRates.put(SpotType.LARGE_SPOT, 30.0);
+    }
+
+    public double calculateFee(Ticket ticket, long exitTime) {
+        long hours = Math.max(1, (exitTime - ticket.getEntryTime() + HOUR - 1) / HOUR);
+        return hours * hourlyRates.get(ticket.getSpot().getType());
+    }
+}
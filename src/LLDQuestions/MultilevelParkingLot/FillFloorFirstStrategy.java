@@ -0,0 +1,16 @@
+import java.util.List;
+
+/**
+ * Packs vehicles onto the fullest floors that still have room, so whole floors stay
+ * empty and can be closed or cleaned.
+ */
+class FillFloorFirstStrategy extends FloorLoadStrategy {
+    public FillFloorFirstStrategy(List<ParkingFloor> floors) {
+        super(floors);
+    }
+
+    @Override
+    protected int compareLoad(int freeA, int freeB) {
+        return Integer.compare(freeA, freeB);
+    }
+}
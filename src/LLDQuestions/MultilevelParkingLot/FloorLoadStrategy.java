@@ -0,0 +1,73 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Chooses a floor by how many free spots of the type it has, then the lowest free spot
+ * on it. Per spot type, the floors with a free spot sit in a TreeSet ordered by
+ * compareLoad; a floor leaves the set while its count changes and goes back in after,
+ * so every park and unpark is O(log floors + log spots per floor).
+ */
+abstract class FloorLoadStrategy implements ParkingStrategy {
+    private final Map<SpotType, List<TreeSet<ParkingSpot>>> freeByFloor = new EnumMap<>(SpotType.class); // By spot number
+    private final Map<SpotType, TreeSet<ParkingFloor>> floorOrder = new EnumMap<>(SpotType.class);
+
+    protected FloorLoadStrategy(List<ParkingFloor> floors) {
+        for (SpotType type : SpotType.values()) {
+            List<TreeSet<ParkingSpot>> perFloor = new ArrayList<>();
+            for (int f = 0; f < floors.size(); f++) {
+                perFloor.add(new TreeSet<>(Comparator.comparingInt(ParkingSpot::getSpotNumber)));
+            }
+            freeByFloor.put(type, perFloor);
+            floorOrder.put(type, new TreeSet<>((a, b) -> {
+                int byLoad = compareLoad(perFloor.get(a.getFloorNumber()).size(), perFloor.get(b.getFloorNumber()).size());
+                return byLoad != 0 ? byLoad : Integer.compare(a.getFloorNumber(), b.getFloorNumber());
+            }));
+        }
+        for (ParkingFloor floor : floors) {
+            for (ParkingSpot spot : floor.getSpots()) {
+                if (!spot.isOccupied()) {
+                    onSpotFreed(spot);
+                }
+            }
+        }
+    }
+
+    /**
+     * Negative if a floor with freeA free spots should be used before one with freeB.
+     */
+    protected abstract int compareLoad(int freeA, int freeB);
+
+    @Override
+    public ParkingSpot findSpot(List<ParkingFloor> floors, Vehicle vehicle) {
+        for (SpotType type : ParkingSpot.fittingTypes(vehicle.getType())) {
+            TreeSet<ParkingFloor> order = floorOrder.get(type);
+            if (!order.isEmpty()) {
+                return freeByFloor.get(type).get(order.first().getFloorNumber()).first();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void onSpotTaken(ParkingSpot spot) {
+        TreeSet<ParkingFloor> order = floorOrder.get(spot.getType());
+        TreeSet<ParkingSpot> free = freeByFloor.get(spot.getType()).get(spot.getFloor().getFloorNumber());
+        order.remove(spot.getFloor());
+        free.remove(spot);
+        if (!free.isEmpty()) {
+            order.add(spot.getFloor());
+        }
+    }
+
+    @Override
+    public void onSpotFreed(ParkingSpot spot) {
+        TreeSet<ParkingFloor> order = floorOrder.get(spot.getType());
+        order.remove(spot.getFloor());
+        freeByFloor.get(spot.getType()).get(spot.getFloor().getFloorNumber()).add(spot);
+        order.add(spot.getFloor());
+    }
+}
@@ -0,0 +1,121 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Several entry gates park and release vehicles at once, each gate on its own thread.
+ * Every spot handed out is recorded in an owner map; a spot handed out while another
+ * vehicle still owns it is a double assignment. At the end, occupied spots, active
+ * tickets and the vehicles the gates think are inside must all agree.
+ */
+public class MultiGateSimulator {
+    private static final VehicleType[] ARRIVALS = {VehicleType.CAR, VehicleType.CAR, VehicleType.CAR, VehicleType.MOTORCYCLE, VehicleType.TRUCK};
+
+    private final int gates;
+    private final int operationsPerGate;
+
+    public MultiGateSimulator(int gates, int operationsPerGate) {
+        this.gates = gates;
+        this.operationsPerGate = operationsPerGate;
+    }
+
+    void run(String label, boolean concurrent) throws InterruptedException {
+        List<ParkingFloor> floors = new ArrayList<>();
+        for (int f = 0; f < 50; f++) {
+            floors.add(new ParkingFloor(f, 40, 280, 80));
+        }
+        ParkingLot lot = new ParkingLot(floors, gates);
+        if (!concurrent) {
+            lot.setParkingStrategy(new SpotAllocator(floors)); // Same lot, but every claim under the lot's lock
+        }
+
+        Map<ParkingSpot, String> owners = new ConcurrentHashMap<>();
+        AtomicInteger doubleAssignments = new AtomicInteger();
+        AtomicLong allocations = new AtomicLong();
+        List<List<Vehicle>> inside = new ArrayList<>();
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int g = 0; g < gates; g++) {
+            int gate = g;
+            List<Vehicle> parked = new ArrayList<>();
+            inside.add(parked);
+            Thread thread = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    ready.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < operationsPerGate; i++) {
+                    // Mostly arrivals, so the lot runs close to full and gates compete for the last spots
+                    if (parked.isEmpty() || random.nextInt(100) < 55) {
+                        Vehicle vehicle = new Vehicle("G" + gate + "-" + i, ARRIVALS[random.nextInt(ARRIVALS.length)]);
+                        Ticket ticket = lot.enter(vehicle, gate);
+                        if (ticket != null) {
+                            allocations.incrementAndGet();
+                            if (owners.putIfAbsent(ticket.getSpot(), vehicle.getLicensePlate()) != null) {
+                                doubleAssignments.incrementAndGet();
+                            }
+                            parked.add(vehicle);
+                        }
+                    } else {
+                        int index = random.nextInt(parked.size());
+                        Vehicle vehicle = parked.get(index);
+                        parked.set(index, parked.get(parked.size() - 1));
+                        parked.remove(parked.size() - 1);
+                        // Give up ownership while the spot is still ours, then leave
+                        owners.remove(lot.getTicket(vehicle.getLicensePlate()).getSpot(), vehicle.getLicensePlate());
+                        lot.exit(vehicle);
+                    }
+                }
+            }, "gate-" + gate);
+            thread.start();
+            threads.add(thread);
+        }
+        long begin = System.nanoTime();
+        ready.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        int occupied = 0;
+        int mismatched = 0;
+        for (ParkingFloor floor : floors) {
+            for (ParkingSpot spot : floor.getSpots()) {
+                if (spot.isOccupied()) {
+                    occupied++;
+                    Ticket ticket = lot.getTicket(spot.getParkedVehicle().getLicensePlate());
+                    if (ticket == null || ticket.getSpot() != spot) {
+                        mismatched++;
+                    }
+                }
+            }
+        }
+        int expected = 0;
+        for (List<Vehicle> parked : inside) {
+            expected += parked.size();
+        }
+
+        System.out.println(String.format("%-26s %,d allocations/s, %,d vehicles inside, %d double assignments, %d mismatched spots",
+            label + ":", (long) (allocations.get() / seconds), occupied, doubleAssignments.get(), mismatched));
+        if (doubleAssignments.get() == 0 && mismatched == 0 && occupied == expected && lot.getParkedCount() == expected) {
+            System.out.println("Test PASSED!");
+        } else {
+            System.err.println("Test FAILED: spots assigned twice or lost.");
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        // Parameters: entry gates, park/unpark operations per gate
+        MultiGateSimulator simulator = new MultiGateSimulator(8, 200_000);
+        simulator.run("Lock-free claiming", true);
+        simulator.run("SpotAllocator under a lock", false);
+    }
+}
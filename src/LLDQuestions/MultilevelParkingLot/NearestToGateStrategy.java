@@ -0,0 +1,88 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Parks each vehicle in the free spot closest to the gate it came in through.
+ *
+ * Every gate has its own ordering of the free spots by distance, one TreeSet per spot
+ * type, so the nearest spot is the first element and taking or freeing a spot is
+ * O(gates x log n). The gates stand side by side on the ground floor, and going up a
+ * floor costs as much as driving past FLOOR_DISTANCE spots.
+ */
+class NearestToGateStrategy implements ParkingStrategy {
+    static final int FLOOR_DISTANCE = 100;
+
+    private final int[] gatePositions;
+    private final List<Map<SpotType, TreeSet<ParkingSpot>>> byGate = new ArrayList<>();
+
+    public NearestToGateStrategy(List<ParkingFloor> floors, int gates) {
+        int width = 0;
+        for (ParkingFloor floor : floors) {
+            width = Math.max(width, floor.getSpots().size());
+        }
+        this.gatePositions = new int[gates];
+        for (int gate = 0; gate < gates; gate++) {
+            int position = gatePosition(gate, gates, width);
+            gatePositions[gate] = position;
+            Comparator<ParkingSpot> nearest = Comparator.<ParkingSpot>comparingInt(spot -> distance(spot, position))
+                .thenComparingInt(spot -> spot.getFloor().getFloorNumber())
+                .thenComparingInt(ParkingSpot::getSpotNumber);
+            Map<SpotType, TreeSet<ParkingSpot>> queues = new EnumMap<>(SpotType.class);
+            for (SpotType type : SpotType.values()) {
+                queues.put(type, new TreeSet<>(nearest));
+            }
+            byGate.add(queues);
+        }
+        for (ParkingFloor floor : floors) {
+            for (ParkingSpot spot : floor.getSpots()) {
+                if (!spot.isOccupied()) {
+                    onSpotFreed(spot);
+                }
+            }
+        }
+    }
+
+    static int gatePosition(int gate, int gates, int width) {
+        return (2 * gate + 1) * width / (2 * gates);
+    }
+
+    static int distance(ParkingSpot spot, int gatePosition) {
+        return spot.getFloor().getFloorNumber() * FLOOR_DISTANCE + Math.abs(spot.getSpotNumber() - gatePosition);
+    }
+
+    @Override
+    public ParkingSpot findSpot(List<ParkingFloor> floors, Vehicle vehicle) {
+        return findSpot(floors, vehicle, 0);
+    }
+
+    @Override
+    public ParkingSpot findSpot(List<ParkingFloor> floors, Vehicle vehicle, int gate) {
+        int g = Math.floorMod(gate, gatePositions.length);
+        ParkingSpot best = null;
+        for (SpotType type : ParkingSpot.fittingTypes(vehicle.getType())) {
+            TreeSet<ParkingSpot> queue = byGate.get(g).get(type);
+            if (!queue.isEmpty() && (best == null || distance(queue.first(), gatePositions[g]) < distance(best, gatePositions[g]))) {
+                best = queue.first();
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void onSpotTaken(ParkingSpot spot) {
+        for (Map<SpotType, TreeSet<ParkingSpot>> queues : byGate) {
+            queues.get(spot.getType()).remove(spot);
+        }
+    }
+
+    @Override
+    public void onSpotFreed(ParkingSpot spot) {
+        for (Map<SpotType, TreeSet<ParkingSpot>> queues : byGate) {
+            queues.get(spot.getType()).add(spot);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live "free spots per floor per type" for display boards.
+ *
+ * Each (floor, spot type) pair has a LongAdder of occupied spots, bumped by ParkingLot
+ * on every park and unpark. LongAdder spreads updates over striped cells, so gates
+ * parking on the same floor do not fight over one counter, and reading a count is a
+ * sum of a few cells instead of a walk over every ParkingSpot.
+ *
+ * Boards subscribe to changes. A change only sets the (floor, type) bit in each
+ * subscription's dirty set and, if no delivery is pending, hands the subscription to
+ * a delivery thread. Delivery clears the bits and sends the current count for each,
+ * so however many changes pile up while a board is busy, it gets one update per
+ * changed pair with the latest value, and a slow board never slows the gates.
+ *
+ * All trackers share one cached delivery pool of daemon threads, so a lot never has
+ * to be closed: its delivery threads exit once they have been idle for a minute.
+ */
+public class OccupancyTracker {
+    private static final SpotType[] TYPES = SpotType.values();
+    private static final ExecutorService DELIVERY = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "occupancy-delivery");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int floorCount;
+    private final int[][] capacity;      // [floor][type]
+    private final LongAdder[][] occupied; // [floor][type]
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public OccupancyTracker(List<ParkingFloor> floors) {
+        this.floorCount = floors.size();
+        this.capacity = new int[floorCount][TYPES.length];
+        this.occupied = new LongAdder[floorCount][TYPES.length];
+        for (ParkingFloor floor : floors) {
+            for (SpotType type : TYPES) {
+                occupied[floor.getFloorNumber()][type.ordinal()] = new LongAdder();
+            }
+            for (ParkingSpot spot : floor.getSpots()) {
+                capacity[floor.getFloorNumber()][spot.getType().ordinal()]++;
+                if (spot.isOccupied()) {
+                    occupied[floor.getFloorNumber()][spot.getType().ordinal()].increment();
+                }
+            }
+        }
+    }
+
+    public void onParked(ParkingSpot spot) {
+        update(spot, 1);
+    }
+
+    public void onFreed(ParkingSpot spot) {
+        update(spot, -1);
+    }
+
+    public int getFreeSpots(int floor, SpotType type) {
+        return capacity[floor][type.ordinal()] - (int) occupied[floor][type.ordinal()].sum();
+    }
+
+    public int getFreeSpots(SpotType type) {
+        int free = 0;
+        for (int floor = 0; floor < floorCount; floor++) {
+            free += getFreeSpots(floor, type);
+        }
+        return free;
+    }
+
+    public Subscription subscribe(OccupancyListener listener) {
+        Subscription subscription = new Subscription(listener);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    private void update(ParkingSpot spot, int delta) {
+        int floor = spot.getFloor().getFloorNumber();
+        int type = spot.getType().ordinal();
+        occupied[floor][type].add(delta);
+        int key = floor * TYPES.length + type;
+        for (Subscription subscription : subscriptions) {
+            subscription.markDirty(key);
+        }
+    }
+
+    /**
+     * One board's view of the stream. Cancel it to stop receiving updates: delivery
+     * stops at the next batch boundary, so at most the batch already on its way arrives.
+     */
+    public class Subscription {
+        private final OccupancyListener listener;
+        private final AtomicLongArray dirty = new AtomicLongArray((floorCount * TYPES.length + 63) >>> 6);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicInteger deliveries = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        Subscription(OccupancyListener listener) {
+            this.listener = listener;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+
+        /**
+         * Waits until every change marked so far has been delivered, or the subscription
+         * is cancelled. Returns false if that takes longer than timeoutMillis.
+         */
+        public synchronized boolean awaitDrained(long timeoutMillis) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (!cancelled && (scheduled.get() || hasDirty())) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                wait(remaining);
+            }
+            return true;
+        }
+
+        public int getDeliveries() {
+            return deliveries.get();
+        }
+
+        void markDirty(int key) {
+            long bit = 1L << key;
+            if ((dirty.get(key >>> 6) & bit) == 0) {
+                dirty.getAndAccumulate(key >>> 6, bit, (word, b) -> word | b);
+            }
+            if (!scheduled.get() && scheduled.compareAndSet(false, true)) {
+                DELIVERY.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (!cancelled) {
+                List<OccupancyUpdate> updates = new ArrayList<>();
+                for (int w = 0; w < dirty.length(); w++) {
+                    long word = dirty.getAndSet(w, 0);
+                    while (word != 0) {
+                        int key = (w << 6) + Long.numberOfTrailingZeros(word);
+                        int floor = key / TYPES.length;
+                        SpotType type = TYPES[key % TYPES.length];
+                        updates.add(new OccupancyUpdate(floor, type, getFreeSpots(floor, type), capacity[floor][type.ordinal()]));
+                        word &= word - 1;
+                    }
+                }
+                if (updates.isEmpty()) {
+                    scheduled.set(false);
+                    // A change may have landed after the scan but before the flag was cleared
+                    if (!hasDirty() || !scheduled.compareAndSet(false, true)) {
+                        break;
+                    }
+                    continue;
+                }
+                if (cancelled) {
+                    break; // Cancelled while this batch was being built
+                }
+                deliveries.incrementAndGet();
+                try {
+                    listener.onOccupancyChanged(updates);
+                } catch (RuntimeException e) {
+                    System.out.println("Occupancy listener failed: " + e.getMessage());
+                }
+            }
+            synchronized (this) {
+                notifyAll(); // Wake awaitDrained
+            }
+        }
+
+        private boolean hasDirty() {
+            for (int w = 0; w < dirty.length(); w++) {
+                if (dirty.get(w) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // --- Demo: eight busy gates, a fast display board and a slow one ---
+
+    public static void main(String[] args) throws InterruptedException {
+        List<ParkingFloor> floors = new ArrayList<>();
+        for (int f = 0; f < 50; f++) {
+            floors.add(new ParkingFloor(f, 40, 280, 80));
+        }
+        int gates = 8;
+        ParkingLot lot = new ParkingLot(floors, gates);
+        OccupancyTracker tracker = lot.getOccupancy();
+
+        // Each board keeps its own picture of the lot from the updates alone
+        int[][] fastBoard = new int[floors.size()][TYPES.length];
+        int[][] slowBoard = new int[floors.size()][TYPES.length];
+        Subscription fast = tracker.subscribe(updates -> apply(fastBoard, updates));
+        Subscription slow = tracker.subscribe(updates -> {
+            apply(slowBoard, updates);
+            try {
+                Thread.sleep(50); // A board on a slow link
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        // A board that unsubscribes from inside its first batch must never get a second
+        AtomicReference<Subscription> once = new AtomicReference<>();
+        once.set(tracker.subscribe(updates -> once.get().cancel()));
+
+        VehicleType[] arrivals = {VehicleType.CAR, VehicleType.CAR, VehicleType.CAR, VehicleType.MOTORCYCLE, VehicleType.TRUCK};
+        AtomicInteger changes = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        long begin = System.nanoTime();
+        for (int g = 0; g < gates; g++) {
+            int gate = g;
+            Thread thread = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                List<Vehicle> parked = new ArrayList<>();
+                for (int i = 0; i < 100_000; i++) {
+                    if (parked.isEmpty() || random.nextInt(100) < 55) {
+                        Vehicle vehicle = new Vehicle("G" + gate + "-" + i, arrivals[random.nextInt(arrivals.length)]);
+                        if (lot.enter(vehicle, gate) != null) {
+                            parked.add(vehicle);
+                            changes.incrementAndGet();
+                        }
+                    } else {
+                        lot.exit(parked.remove(parked.size() - 1));
+                        changes.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long gateMillis = (System.nanoTime() - begin) / 1_000_000;
+        boolean drained = fast.awaitDrained(10_000) && slow.awaitDrained(10_000);
+
+        int wrongFast = 0;
+        int wrongSlow = 0;
+        int wrongCounters = 0;
+        for (ParkingFloor floor : floors) {
+            int[] actual = new int[TYPES.length];
+            for (ParkingSpot spot : floor.getSpots()) {
+                actual[spot.getType().ordinal()] += spot.isOccupied() ? 0 : 1;
+            }
+            for (SpotType type : TYPES) {
+                int f = floor.getFloorNumber();
+                wrongCounters += tracker.getFreeSpots(f, type) != actual[type.ordinal()] ? 1 : 0;
+                wrongFast += fastBoard[f][type.ordinal()] != actual[type.ordinal()] ? 1 : 0;
+                wrongSlow += slowBoard[f][type.ordinal()] != actual[type.ordinal()] ? 1 : 0;
+            }
+        }
+        System.out.println(String.format("%,d occupancy changes from %d gates in %,dms", changes.get(), gates, gateMillis));
+        System.out.println(String.format("Fast board: %,d deliveries, slow board: %,d deliveries", fast.getDeliveries(), slow.getDeliveries()));
+        System.out.println(String.format("Free compact spots: %,d. Wrong counters: %d, wrong on fast board: %d, wrong on slow board: %d",
+            tracker.getFreeSpots(SpotType.COMPACT_SPOT), wrongCounters, wrongFast, wrongSlow));
+        if (drained && wrongCounters == 0 && wrongFast == 0 && wrongSlow == 0 && once.get().getDeliveries() == 1) {
+            System.out.println("Test PASSED!");
+        } else {
+            System.err.println("Test FAILED: drained=" + drained + ", cancelled board got "
+                + once.get().getDeliveries() + " batches, boards or counters disagree with the spots.");
+        }
+    }
+
+    private static void apply(int[][] board, List<OccupancyUpdate> updates) {
+        for (OccupancyUpdate update : updates) {
+            board[update.floor][update.type.ordinal()] = update.free;
+        }
+    }
+}
+
+/**
+ * Receives batches of occupancy changes on a delivery thread; each batch holds at most
+ * one update per (floor, type), carrying the latest count.
+ */
+interface OccupancyListener {
+    void onOccupancyChanged(List<OccupancyUpdate> updates);
+}
+
+class OccupancyUpdate {
+    final int floor;
+    final SpotType type;
+    final int free;
+    final int capacity;
+
+    public OccupancyUpdate(int floor, SpotType type, int free, int capacity) {
+        this.floor = floor;
+        this.type = type;
+        this.free = free;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "Floor " + floor + " " + type + ": " + free + "/" + capacity + " free";
+    }
+}
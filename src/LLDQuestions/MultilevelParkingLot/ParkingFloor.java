@@ -0,0 +1,30 @@
+import java.util.ArrayList;
+import java.util.List;
+
+class ParkingFloor {
+    private int floorNumber;
+    private List<ParkingSpot> spots;
+
+    public ParkingFloor(int floorNumber, int numSpots) {
+        this.floorNumber = floorNumber;
+        this.spots = new ArrayList<>();
+        // Simple logic to create a mix of spot types
+        for (int i = 0; i < numSpots; i++) {
+            if (i < 2) spots.add(new ParkingSpot(i, SpotType.MOTORCYCLE_SPOT, this));
+            else if (i < 4) spots.add(new ParkingSpot(i, SpotType.COMPACT_SPOT, this));
+            else spots.add(new ParkingSpot(i, SpotType.LARGE_SPOT, this));
+        }
+    }
+
+    public ParkingFloor(int floorNumber, int motorcycleSpots, int compactSpots, int largeSpots) {
+        this.floorNumber = floorNumber;
+        this.spots = new ArrayList<>();
+        for (int i = 0; i < motorcycleSpots + compactSpots + largeSpots; i++) {
+            if (i < motorcycleSpots) spots.add(new ParkingSpot(i, SpotType.MOTORCYCLE_SPOT, this));
+            else if (i < motorcycleSpots + compactSpots) spots.add(new ParkingSpot(i, SpotType.COMPACT_SPOT, this));
+            else spots.add(new ParkingSpot(i, SpotType.LARGE_SPOT, this));
+        }
+    }
+    public int getFloorNumber() { return floorNumber; }
+    public List<ParkingSpot> getSpots() { return spots; }
+}
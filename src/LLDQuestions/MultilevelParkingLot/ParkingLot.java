@@ -0,0 +1,136 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// --- The Main Context Class ---
+class ParkingLot {
+    private List<ParkingFloor> floors;
+    private ParkingStrategy parkingStrategy;
+    private Map<String, Ticket> activeTickets; // License plate -> ticket of the vehicle parked under it
+    private FeeCalculator feeCalculator;
+    private OccupancyTracker occupancy;
+
+    public ParkingLot(int numFloors, int numSpotsPerFloor) {
+        this.floors = new ArrayList<>();
+        for (int i = 0; i < numFloors; i++) {
+            floors.add(new ParkingFloor(i, numSpotsPerFloor));
+        }
+        this.parkingStrategy = new SpotAllocator(floors); // Default strategy: first fit from free-spot pools
+        this.activeTickets = new ConcurrentHashMap<>();
+        this.feeCalculator = new FeeCalculator();
+        this.occupancy = new OccupancyTracker(floors);
+    }
+
+    /**
+     * A lot for several entry gates parking at once: spots are claimed lock-free, and
+     * each gate starts looking on its own floor.
+     */
+    public ParkingLot(List<ParkingFloor> floors, int gates) {
+        this.floors = floors;
+        this.parkingStrategy = new ConcurrentSpotAllocator(floors, gates);
+        this.activeTickets = new ConcurrentHashMap<>();
+        this.feeCalculator = new FeeCalculator();
+        this.occupancy = new OccupancyTracker(floors);
+    }
+
+    public List<ParkingFloor> getFloors() {
+        return floors;
+    }
+
+    /**
+     * An indexing strategy must have been built over this lot's floors in their current state.
+     */
+    public void setParkingStrategy(ParkingStrategy parkingStrategy) {
+        this.parkingStrategy = parkingStrategy;
+    }
+
+    public OccupancyTracker getOccupancy() {
+        return occupancy;
+    }
+
+    public Ticket getTicket(String licensePlate) {
+        return activeTickets.get(licensePlate);
+    }
+
+    public void parkVehicle(Vehicle vehicle) {
+        if (activeTickets.containsKey(vehicle.getLicensePlate())) {
+            System.out.println("Vehicle " + vehicle.getLicensePlate() + " is already parked.");
+            return;
+        }
+        Ticket ticket = enter(vehicle, 0);
+        if (ticket != null) {
+            System.out.println("Vehicle " + vehicle.getLicensePlate() + " parked successfully at Floor " + ticket.getFloorNumber() + ", Spot " + ticket.getSpotNumber());
+        } else {
+            System.out.println("Sorry, no available spot for vehicle " + vehicle.getLicensePlate());
+        }
+    }
+
+    /**
+     * Frees the vehicle's spot and returns its closed ticket with the fee, or null if
+     * the vehicle is not parked here. The plate index makes this one hash lookup.
+     */
+    public Ticket unparkVehicle(Vehicle vehicle) {
+        Ticket ticket = exit(vehicle);
+        if (ticket == null) {
+            System.out.println("Could not find vehicle " + vehicle.getLicensePlate());
+            return null;
+        }
+        System.out.println("Vehicle " + vehicle.getLicensePlate() + " unparked successfully. Fee: " + ticket.getFee());
+        return ticket;
+    }
+
+    /**
+     * Parks the vehicle through the given entry gate and returns its ticket, or null if
+     * no spot fits or the plate is already inside. Safe to call from many gates at once.
+     */
+    public Ticket enter(Vehicle vehicle, int gate) {
+        ParkingSpot spot;
+        if (parkingStrategy.isConcurrent()) {
+            spot = parkingStrategy.claimSpot(floors, vehicle, gate);
+        } else {
+            synchronized (this) {
+                spot = parkingStrategy.claimSpot(floors, vehicle, gate);
+            }
+        }
+        if (spot == null) {
+            return null;
+        }
+        Ticket ticket = new Ticket(vehicle, spot);
+        if (activeTickets.putIfAbsent(vehicle.getLicensePlate(), ticket) != null) {
+            release(spot); // The same plate got in through another gate first
+            return null;
+        }
+        occupancy.onParked(spot);
+        return ticket;
+    }
+
+    /**
+     * Frees the vehicle's spot and returns its closed ticket, or null if it is not parked here.
+     */
+    public Ticket exit(Vehicle vehicle) {
+        Ticket ticket = activeTickets.remove(vehicle.getLicensePlate());
+        if (ticket == null) {
+            return null;
+        }
+        release(ticket.getSpot());
+        occupancy.onFreed(ticket.getSpot());
+        long exitTime = System.currentTimeMillis();
+        ticket.close(exitTime, feeCalculator.calculateFee(ticket, exitTime));
+        return ticket;
+    }
+
+    private void release(ParkingSpot spot) {
+        if (parkingStrategy.isConcurrent()) {
+            parkingStrategy.releaseSpot(spot);
+        } else {
+            synchronized (this) {
+                parkingStrategy.releaseSpot(spot);
+            }
+        }
+    }
+
+    public int getParkedCount() {
+        return activeTickets.size();
+    }
+}
@@ -0,0 +1,82 @@
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ParkingSpot {
+    private static final Map<VehicleType, SpotType[]> FITTING_TYPES = new EnumMap<>(VehicleType.class);
+
+    static {
+        for (VehicleType vehicleType : VehicleType.values()) {
+            List<SpotType> fitting = new ArrayList<>();
+            for (SpotType spotType : SpotType.values()) {
+                if (fits(spotType, vehicleType)) {
+                    fitting.add(spotType);
+                }
+            }
+            FITTING_TYPES.put(vehicleType, fitting.toArray(new SpotType[0]));
+        }
+    }
+
+    private int spotNumber;
+    private SpotType type;
+    private ParkingFloor floor; // Back-reference, so a spot knows its floor without a search
+    private boolean hasCharger;
+    private final AtomicReference<Vehicle> parkedVehicle = new AtomicReference<>(); // null while free
+
+    public ParkingSpot(int spotNumber, SpotType type, ParkingFloor floor) {
+        this.spotNumber = spotNumber;
+        this.type = type;
+        this.floor = floor;
+    }
+
+    public boolean isOccupied() { return parkedVehicle.get() != null; }
+    public SpotType getType() { return type; }
+    public int getSpotNumber() { return spotNumber; }
+    public ParkingFloor getFloor() { return floor; }
+    public Vehicle getParkedVehicle() { return parkedVehicle.get(); }
+    public boolean hasCharger() { return hasCharger; }
+    public void installCharger() { this.hasCharger = true; }
+
+    public boolean canFitVehicle(Vehicle vehicle) {
+        if (isOccupied()) return false;
+        return fits(type, vehicle.getType());
+    }
+
+    public static boolean fits(SpotType spotType, VehicleType vehicleType) {
+        // A car can fit in a compact or large spot
+        if (vehicleType == VehicleType.CAR) {
+            return spotType == SpotType.COMPACT_SPOT || spotType == SpotType.LARGE_SPOT;
+        }
+        // A motorcycle can fit in any spot type
+        if (vehicleType == VehicleType.MOTORCYCLE) {
+            return true;
+        }
+        // A truck can only fit in a large spot
+        if (vehicleType == VehicleType.TRUCK) {
+            return spotType == SpotType.LARGE_SPOT;
+        }
+        return false;
+    }
+
+    // The spot types a vehicle fits in, smallest first. The arrays are shared: do not modify them
+    public static SpotType[] fittingTypes(VehicleType vehicleType) {
+        return FITTING_TYPES.get(vehicleType);
+    }
+
+    public void park(Vehicle vehicle) {
+        parkedVehicle.set(vehicle);
+    }
+
+    /**
+     * Claims the spot for the vehicle with one CAS, so two gates can never both get it.
+     */
+    public boolean tryPark(Vehicle vehicle) {
+        return parkedVehicle.compareAndSet(null, vehicle);
+    }
+
+    public void unpark() {
+        parkedVehicle.set(null);
+    }
+}
@@ -0,0 +1,37 @@
+import java.util.List;
+
+// --- STRATEGY PATTERN for Parking Logic ---
+interface ParkingStrategy {
+    ParkingSpot findSpot(List<ParkingFloor> floors, Vehicle vehicle);
+
+    // For strategies where the entry gate matters; the rest ignore it
+    default ParkingSpot findSpot(List<ParkingFloor> floors, Vehicle vehicle, int gate) {
+        return findSpot(floors, vehicle);
+    }
+
+    // Strategies that index free spots are told when the lot takes or frees one
+    default void onSpotTaken(ParkingSpot spot) {}
+    default void onSpotFreed(ParkingSpot spot) {}
+
+    /**
+     * Finds a spot and parks the vehicle in it. The default is find-then-park, which is
+     * only safe while ParkingLot holds its lock; concurrent strategies override this
+     * with a claim that is safe from any number of gates at once.
+     */
+    default ParkingSpot claimSpot(List<ParkingFloor> floors, Vehicle vehicle, int gate) {
+        ParkingSpot spot = findSpot(floors, vehicle, gate);
+        if (spot == null || !spot.tryPark(vehicle)) {
+            return null;
+        }
+        onSpotTaken(spot);
+        return spot;
+    }
+
+    default void releaseSpot(ParkingSpot spot) {
+        spot.unpark();
+        onSpotFreed(spot);
+    }
+
+    // True if claimSpot and releaseSpot may be called without ParkingLot's lock
+    default boolean isConcurrent() { return false; }
+}
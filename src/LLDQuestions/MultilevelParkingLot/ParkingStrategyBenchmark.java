@@ -0,0 +1,110 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Runs every parking strategy on the same 50-floor, 20,000-spot lot with four entry
+ * gates: half fill it, then time a long run of random exits and arrivals. Reports
+ * the cost of one exit plus one arrival, and what each strategy optimises for: how
+ * far the morning arrivals drive from their gate, how many floors end up in use, the
+ * gap between the fullest and emptiest floor, and how many EVs got a charger.
+ */
+public class ParkingStrategyBenchmark {
+    private static final int GATES = 4;
+    private static final VehicleType[] ARRIVALS = {VehicleType.CAR, VehicleType.CAR, VehicleType.CAR, VehicleType.MOTORCYCLE, VehicleType.TRUCK};
+
+    interface StrategyFactory {
+        ParkingStrategy create(List<ParkingFloor> floors);
+    }
+
+    static List<ParkingFloor> buildFloors() {
+        List<ParkingFloor> floors = new ArrayList<>();
+        for (int f = 0; f < 50; f++) {
+            ParkingFloor floor = new ParkingFloor(f, 80, 240, 80);
+            for (ParkingSpot spot : floor.getSpots()) {
+                if (spot.getType() != SpotType.MOTORCYCLE_SPOT && spot.getSpotNumber() % 10 == 0) {
+                    spot.installCharger();
+                }
+            }
+            floors.add(floor);
+        }
+        return floors;
+    }
+
+    static void run(String name, StrategyFactory factory) {
+        List<ParkingFloor> floors = buildFloors();
+        int width = floors.get(0).getSpots().size();
+        ParkingLot lot = new ParkingLot(floors, GATES);
+        lot.setParkingStrategy(factory.create(floors));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // Morning: the first 10,000 arrivals into an empty lot, measuring how far each drives
+        int morningArrivals = 10_000;
+        List<Vehicle> parked = new ArrayList<>();
+        long distance = 0;
+        int sequence = 0;
+        for (; parked.size() < morningArrivals; sequence++) {
+            int gate = random.nextInt(GATES);
+            Vehicle vehicle = new Vehicle("V-" + sequence, ARRIVALS[sequence % ARRIVALS.length], random.nextInt(100) < 15);
+            Ticket ticket = lot.enter(vehicle, gate);
+            if (ticket != null) {
+                parked.add(vehicle);
+                distance += NearestToGateStrategy.distance(ticket.getSpot(), NearestToGateStrategy.gatePosition(gate, GATES, width));
+            }
+        }
+
+        // Day: random departures and arrivals, timed
+        int operations = 50_000;
+        int electric = 0;
+        int electricCharging = 0;
+        long begin = System.nanoTime();
+        for (int i = 0; i < operations; i++, sequence++) {
+            int index = random.nextInt(parked.size());
+            lot.exit(parked.get(index));
+            parked.set(index, parked.get(parked.size() - 1));
+            parked.remove(parked.size() - 1);
+
+            int gate = random.nextInt(GATES);
+            Vehicle vehicle = new Vehicle("V-" + sequence, ARRIVALS[sequence % ARRIVALS.length], random.nextInt(100) < 15);
+            Ticket ticket = lot.enter(vehicle, gate);
+            if (ticket != null) {
+                parked.add(vehicle);
+                if (vehicle.isElectric()) {
+                    electric++;
+                    electricCharging += ticket.getSpot().hasCharger() ? 1 : 0;
+                }
+            }
+        }
+        long nanosPerOperation = (System.nanoTime() - begin) / operations;
+
+        int floorsInUse = 0;
+        int fullest = 0;
+        int emptiest = Integer.MAX_VALUE;
+        for (ParkingFloor floor : floors) {
+            int occupied = 0;
+            for (ParkingSpot spot : floor.getSpots()) {
+                occupied += spot.isOccupied() ? 1 : 0;
+            }
+            floorsInUse += occupied > 0 ? 1 : 0;
+            fullest = Math.max(fullest, occupied);
+            emptiest = Math.min(emptiest, occupied);
+        }
+        System.out.println(String.format("%-22s %,8dns %,10d %8d %12d %9.0f%%",
+            name, nanosPerOperation, distance / morningArrivals, floorsInUse, fullest - emptiest,
+            100.0 * electricCharging / Math.max(1, electric)));
+    }
+
+    public static void main(String[] args) {
+        // Untimed warm-up, so the JIT has compiled the shared paths before the first measurement
+        run("warm-up", SpotAllocator::new);
+        System.out.println();
+        System.out.println(String.format("%-22s %10s %10s %8s %12s %10s",
+            "Strategy", "exit+entry", "distance", "floors", "floor spread", "EV charging"));
+        run("Default (scan)", floors -> new DefaultParkingStrategy());
+        run("SpotAllocator", SpotAllocator::new);
+        run("NearestToGate", floors -> new NearestToGateStrategy(floors, GATES));
+        run("FillFloorFirst", FillFloorFirstStrategy::new);
+        run("SpreadLoad", SpreadLoadStrategy::new);
+        run("EvChargerAware", EvChargerAwareStrategy::new);
+    }
+}
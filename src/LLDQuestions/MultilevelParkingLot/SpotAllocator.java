@@ -0,0 +1,168 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * First-fit parking from per-type, per-floor free-spot bitsets.
+ *
+ * It picks the lowest floor with a fitting spot, and on it the smallest fitting type,
+ * lowest spot number first. On floors whose spots are numbered in type order, as both
+ * ParkingFloor constructors lay them out, that is the same spot DefaultParkingStrategy
+ * picks; on other layouts DefaultParkingStrategy may pick a larger fitting spot that
+ * comes earlier in the list. It keeps three levels of bits per spot type and never
+ * looks at an occupied spot:
+ *   - floorsWithFree: one bit per floor that has a free spot of the type,
+ *   - nonEmptyWords:  per floor, one bit per non-zero word below,
+ *   - free:           per floor, one bit per free spot of the type (by spot number).
+ * Finding a spot is a trailing-zero count at each level, and taking or freeing one
+ * flips a bit at each level, so both are O(1) for floors of up to 4,096 spots and
+ * lots of up to 64 floors, whatever the occupancy.
+ *
+ * Floor numbers must match the floors' positions in the list, as ParkingLot builds them.
+ */
+public class SpotAllocator implements ParkingStrategy {
+    private static final SpotType[] TYPES = SpotType.values();
+
+    private final List<ParkingFloor> floors;
+    private final long[][][] free;          // [type][floor][word]
+    private final long[][][] nonEmptyWords; // [type][floor][summary word]
+    private final long[][] floorsWithFree;  // [type][floor word]
+
+    public SpotAllocator(List<ParkingFloor> floors) {
+        this.floors = floors;
+        this.free = new long[TYPES.length][floors.size()][];
+        this.nonEmptyWords = new long[TYPES.length][floors.size()][];
+        this.floorsWithFree = new long[TYPES.length][(floors.size() + 63) >>> 6];
+        for (ParkingFloor floor : floors) {
+            int words = (floor.getSpots().size() + 63) >>> 6;
+            for (SpotType type : TYPES) {
+                free[type.ordinal()][floor.getFloorNumber()] = new long[words];
+                nonEmptyWords[type.ordinal()][floor.getFloorNumber()] = new long[(words + 63) >>> 6];
+            }
+            for (ParkingSpot spot : floor.getSpots()) {
+                if (!spot.isOccupied()) {
+                    markFree(spot);
+                }
+            }
+        }
+    }
+
+    /**
+     * The floors argument is ignored: the allocator answers from its own bitsets over
+     * the floors it was built with.
+     */
+    @Override
+    public ParkingSpot findSpot(List<ParkingFloor> floors, Vehicle vehicle) {
+        int bestFloor = Integer.MAX_VALUE;
+        SpotType bestType = null;
+        for (SpotType type : ParkingSpot.fittingTypes(vehicle.getType())) {
+            int floor = firstSet(floorsWithFree[type.ordinal()]);
+            if (floor >= 0 && floor < bestFloor) {
+                bestFloor = floor;
+                bestType = type;
+            }
+        }
+        if (bestType == null) {
+            return null;
+        }
+        long[] summary = nonEmptyWords[bestType.ordinal()][bestFloor];
+        long[] bits = free[bestType.ordinal()][bestFloor];
+        int word = firstSet(summary);
+        return this.floors.get(bestFloor).getSpots().get((word << 6) + Long.numberOfTrailingZeros(bits[word]));
+    }
+
+    @Override
+    public void onSpotTaken(ParkingSpot spot) {
+        int type = spot.getType().ordinal();
+        int floor = spot.getFloor().getFloorNumber();
+        int number = spot.getSpotNumber();
+        long[] bits = free[type][floor];
+        bits[number >>> 6] &= ~(1L << number);
+        if (bits[number >>> 6] == 0) {
+            long[] summary = nonEmptyWords[type][floor];
+            summary[number >>> 12] &= ~(1L << (number >>> 6));
+            if (firstSet(summary) < 0) {
+                floorsWithFree[type][floor >>> 6] &= ~(1L << floor);
+            }
+        }
+    }
+
+    @Override
+    public void onSpotFreed(ParkingSpot spot) {
+        markFree(spot);
+    }
+
+    private void markFree(ParkingSpot spot) {
+        int type = spot.getType().ordinal();
+        int floor = spot.getFloor().getFloorNumber();
+        int number = spot.getSpotNumber();
+        free[type][floor][number >>> 6] |= 1L << number;
+        nonEmptyWords[type][floor][number >>> 12] |= 1L << (number >>> 6);
+        floorsWithFree[type][floor >>> 6] |= 1L << floor;
+    }
+
+    private static int firstSet(long[] words) {
+        for (int w = 0; w < words.length; w++) {
+            if (words[w] != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(words[w]);
+            }
+        }
+        return -1;
+    }
+
+    // --- Demo: a 50-floor, 20,000-spot garage filling up at peak entry ---
+
+    public static void main(String[] args) {
+        List<ParkingFloor> floors = new ArrayList<>();
+        for (int f = 0; f < 50; f++) {
+            floors.add(new ParkingFloor(f, 40, 280, 80));
+        }
+        VehicleType[] arrivals = {VehicleType.CAR, VehicleType.CAR, VehicleType.CAR, VehicleType.MOTORCYCLE, VehicleType.TRUCK};
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            vehicles.add(new Vehicle("V-" + i, arrivals[i % arrivals.length]));
+        }
+
+        // Best of five fills, so JIT warm-up and GC pauses do not count
+        for (boolean indexed : new boolean[] {false, true}) {
+            long[] best = {0, Long.MAX_VALUE, Long.MAX_VALUE};
+            for (int round = 0; round < 5; round++) {
+                long[] result = fill(indexed ? new SpotAllocator(floors) : new DefaultParkingStrategy(), floors, vehicles);
+                best = new long[] {result[0], Math.min(best[1], result[1]), Math.min(best[2], result[2])};
+            }
+            System.out.println(String.format("%-22s %,d vehicles parked, %,dns per allocation when empty, %,dns when nearly full",
+                (indexed ? "SpotAllocator" : "DefaultParkingStrategy") + ":", best[0], best[1], best[2]));
+        }
+    }
+
+    // Parks vehicles until the garage is full, then empties it. Returns {parked, ns per first 1,000, ns per last 1,000}
+    private static long[] fill(ParkingStrategy strategy, List<ParkingFloor> floors, List<Vehicle> vehicles) {
+        long emptyNanos = 0;
+        long fullNanos = 0;
+        int parked = 0;
+        for (Vehicle vehicle : vehicles) {
+            long start = System.nanoTime();
+            ParkingSpot spot = strategy.findSpot(floors, vehicle);
+            if (spot == null) {
+                break;
+            }
+            spot.park(vehicle);
+            strategy.onSpotTaken(spot);
+            long elapsed = System.nanoTime() - start;
+            if (parked < 1_000) {
+                emptyNanos += elapsed;
+            } else if (parked >= vehicles.size() - 1_000) {
+                fullNanos += elapsed;
+            }
+            parked++;
+        }
+        for (ParkingFloor floor : floors) {
+            for (ParkingSpot spot : floor.getSpots()) {
+                if (spot.isOccupied()) {
+                    spot.unpark();
+                    strategy.onSpotFreed(spot);
+                }
+            }
+        }
+        return new long[] {parked, emptyNanos / 1_000, fullNanos / 1_000};
+    }
+}
@@ -0,0 +1 @@
+enum SpotType { MOTORCYCLE_SPOT, COMPACT_SPOT, LARGE_SPOT }
@@ -0,0 +1,15 @@
+import java.util.List;
+
+/**
+ * Sends each vehicle to the emptiest floor, so ramps and lifts share the load.
+ */
+class SpreadLoadStrategy extends FloorLoadStrategy {
+    public SpreadLoadStrategy(List<ParkingFloor> floors) {
+        super(floors);
+    }
+
+    @Override
+    protected int compareLoad(int freeA, int freeB) {
+        return Integer.compare(freeB, freeA);
+    }
+}
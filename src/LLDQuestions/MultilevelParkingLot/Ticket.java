@@ -0,0 +1,30 @@
+class Ticket {
+    private String vehicleLicensePlate;
+    private int spotNumber;
+    private int floorNumber;
+    private long entryTime;
+    private ParkingSpot spot; // So exit can free the spot without searching for it
+    private volatile long exitTime; // Set once by close(), which may run on another gate's thread
+    private volatile double fee;
+
+    public Ticket(Vehicle vehicle, ParkingSpot spot) {
+        this.vehicleLicensePlate = vehicle.getLicensePlate();
+        this.spotNumber = spot.getSpotNumber();
+        this.floorNumber = spot.getFloor().getFloorNumber();
+        this.entryTime = System.currentTimeMillis();
+        this.spot = spot;
+    }
+
+    public void close(long exitTime, double fee) {
+        this.exitTime = exitTime;
+        this.fee = fee;
+    }
+
+    public String getVehicleLicensePlate() { return vehicleLicensePlate; }
+    public int getSpotNumber() { return spotNumber; }
+    public int getFloorNumber() { return floorNumber; }
+    public long getEntryTime() { return entryTime; }
+    public ParkingSpot getSpot() { return spot; }
+    public long getExitTime() { return exitTime; }
+    public double getFee() { return fee; }
+}
@@ -0,0 +1,18 @@
+class Vehicle {
+    private String licensePlate;
+    private VehicleType type;
+    private boolean electric;
+
+    public Vehicle(String licensePlate, VehicleType type) {
+        this(licensePlate, type, false);
+    }
+
+    public Vehicle(String licensePlate, VehicleType type, boolean electric) {
+        this.licensePlate = licensePlate;
+        this.type = type;
+        this.electric = electric;
+    }
+    public VehicleType getType() { return type; }
+    public String getLicensePlate() { return licensePlate; }
+    public boolean isElectric() { return electric; }
+}
@@ -0,0 +1 @@
+enum VehicleType { MOTORCYCLE, CAR, TRUCK }
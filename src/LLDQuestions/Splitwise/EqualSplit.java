@@ -0,0 +1,7 @@
+package LLDQuestions.Splitwise;
+
+class EqualSplit extends Split {
+    public EqualSplit(User user) {
+        super(user);
+    }
+}
@@ -0,0 +1,8 @@
+package LLDQuestions.Splitwise;
+
+class ExactSplit extends Split {
+    public ExactSplit(User user, double amount) {
+        super(user);
+        this.amount = amount; // For exact, the amount is provided upfront
+    }
+}
@@ -0,0 +1,21 @@
+package LLDQuestions.Splitwise;
+
+import java.util.List;
+
+class Expense {
+    private String description;
+    private double amount;
+    private User paidBy;
+    private List<Split> splits;
+    private ExpenseType type;
+
+    public Expense(double amount, User paidBy, List<Split> splits, ExpenseType type) {
+        this.amount = amount;
+        this.paidBy = paidBy;
+        this.splits = splits;
+        this.type = type;
+    }
+    public double getAmount() { return amount; }
+    public User getPaidBy() { return paidBy; }
+    public List<Split> getSplits() { return splits; }
+}
@@ -0,0 +1,108 @@
+package LLDQuestions.Splitwise;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// This is the main engine of the application
+class ExpenseManager {
+    private Map<String, User> userMap;
+    private Map<String, Map<String, Double>> balanceSheet;
+    private Map<String, Double> netBalances; // User id -> total owed to them (negative if they owe)
+    private SettleUpEngine settleUpEngine;
+
+    public ExpenseManager() {
+        this.userMap = new HashMap<>();
+        this.balanceSheet = new HashMap<>();
+        this.netBalances = new HashMap<>();
+        this.settleUpEngine = new SettleUpEngine();
+    }
+
+    public void addUser(User user) {
+        userMap.put(user.getId(), user);
+        balanceSheet.put(user.getId(), new HashMap<>());
+        netBalances.put(user.getId(), 0.0);
+    }
+
+    public User getUser(String id) {
+        return userMap.get(id);
+    }
+
+    // This method uses the STRATEGY pattern logic via the ExpenseService factory
+    public void addExpense(ExpenseType type, double amount, User paidBy, List<Split> splits) {
+        // The factory validates the expense and calculates the shares
+        Expense expense = ExpenseService.createExpense(type, amount, paidBy, splits);
+        if (expense == null) {
+            System.out.println("Expense could not be created. Invalid split details.");
+            return;
+        }
+
+        // Update the balance sheet
+        for (Split split : expense.getSplits()) {
+            String paidToId = split.getUser().getId();
+            
+            // Don't create a balance entry for the person who paid for themselves
+            if (paidBy.getId().equals(paidToId)) continue;
+
+            // Update balance for the person who paid
+            Map<String, Double> paidByBalances = balanceSheet.get(paidBy.getId());
+            paidByBalances.put(paidToId, paidByBalances.getOrDefault(paidToId, 0.0) + split.getAmount());
+
+            // Update balance for the person who owes
+            Map<String, Double> paidToBalances = balanceSheet.get(paidToId);
+            paidToBalances.put(paidBy.getId(), paidToBalances.getOrDefault(paidBy.getId(), 0.0) - split.getAmount());
+
+            netBalances.merge(paidBy.getId(), split.getAmount(), Double::sum);
+            netBalances.merge(paidToId, -split.getAmount(), Double::sum);
+        }
+    }
+
+    public Map<String, Double> getNetBalances() {
+        return new HashMap<>(netBalances);
+    }
+
+    public int getPairwiseDebtCount() {
+        int count = 0;
+        for (Map<String, Double> balances : balanceSheet.values()) {
+            for (double balance : balances.values()) {
+                if (balance > 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    // Settles everyone from their net balances, without walking the pairwise sheet
+    public List<Transfer> settleUp() {
+        List<Transfer> transfers = settleUpEngine.settle(netBalances);
+        if (transfers.isEmpty()) {
+            System.out.println("Everyone is settled up.");
+        }
+        for (Transfer transfer : transfers) {
+            printBalance(transfer.getToUserId(), transfer.getFromUserId(), transfer.getAmount());
+        }
+        return transfers;
+    }
+
+    public void showBalances() {
+        boolean hasBalances = false;
+        for (Map.Entry<String, Map<String, Double>> allBalances : balanceSheet.entrySet()) {
+            for (Map.Entry<String, Double> userBalance : allBalances.getValue().entrySet()) {
+                if (userBalance.getValue() > 0) {
+                    hasBalances = true;
+                    printBalance(allBalances.getKey(), userBalance.getKey(), userBalance.getValue());
+                }
+            }
+        }
+        if (!hasBalances) {
+            System.out.println("No balances to show.");
+        }
+    }
+
+    private void printBalance(String user1Id, String user2Id, double amount) {
+        String user1Name = userMap.get(user1Id).getName();
+        String user2Name = userMap.get(user2Id).getName();
+        System.out.println("  " + user2Name + " owes " + user1Name + ": " + String.format("%.2f", amount));
+    }
+}
@@ -0,0 +1,47 @@
+package LLDQuestions.Splitwise;
+
+import java.util.List;
+
+// This class acts as a Factory for creating and validating expenses.
+// It encapsulates the logic for different split types.
+class ExpenseService {
+    public static Expense createExpense(ExpenseType type, double amount, User paidBy, List<Split> splits) {
+        switch (type) {
+            case EQUAL:
+                int totalSplits = splits.size();
+                double splitAmount = amount / totalSplits;
+                for (Split split : splits) {
+                    split.setAmount(splitAmount);
+                }
+                return new Expense(amount, paidBy, splits, type);
+            
+            case EXACT:
+                double totalExactAmount = 0;
+                for (Split split : splits) {
+                    totalExactAmount += split.getAmount();
+                }
+                if (totalExactAmount != amount) {
+                    return null; // Validation failed
+                }
+                return new Expense(amount, paidBy, splits, type);
+
+            case PERCENT:
+                double totalPercent = 0;
+                for (Split split : splits) {
+                    PercentSplit percentSplit = (PercentSplit) split;
+                    totalPercent += percentSplit.getPercent();
+                }
+                if (totalPercent != 100) {
+                    return null; // Validation failed
+                }
+                for (Split split : splits) {
+                    PercentSplit percentSplit = (PercentSplit) split;
+                    split.setAmount((amount * percentSplit.getPercent()) / 100.0);
+                }
+                return new Expense(amount, paidBy, splits, type);
+            
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package LLDQuestions.Splitwise;
+
+enum ExpenseType {
+    EQUAL, EXACT, PERCENT;
+}
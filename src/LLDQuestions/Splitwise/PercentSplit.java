@@ -0,0 +1,11 @@
+package LLDQuestions.Splitwise;
+
+class PercentSplit extends Split {
+    private double percent;
+
+    public PercentSplit(User user, double percent) {
+        super(user);
+        this.percent = percent;
+    }
+    public double getPercent() { return percent; }
+}
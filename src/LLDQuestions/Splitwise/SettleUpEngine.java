@@ -0,0 +1,128 @@
+package LLDQuestions.Splitwise;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Turns net balances into a short list of transfers that settles everyone up.
+ *
+ * Who owes whom pairwise does not matter for settling up, only how much each user is
+ * owed or owes in total. Creditors and debtors go into two max-heaps by amount; the
+ * largest debtor pays the largest creditor as much as they can, and whichever of the
+ * two still has a balance goes back into its heap. Every transfer clears at least one
+ * user, so n users need at most n - 1 transfers, and the whole run is O(n log n).
+ * Finding the true minimum is NP-hard; the greedy result is close to it in practice.
+ *
+ * Amounts are settled in whole cents so that rounding never leaves tiny transfers behind.
+ */
+public class SettleUpEngine {
+
+    public List<Transfer> settle(Map<String, Double> netBalances) {
+        PriorityQueue<Balance> creditors = new PriorityQueue<>((a, b) -> Long.compare(b.cents, a.cents));
+        PriorityQueue<Balance> debtors = new PriorityQueue<>((a, b) -> Long.compare(b.cents, a.cents));
+        for (Map.Entry<String, Double> entry : netBalances.entrySet()) {
+            long cents = Math.round(entry.getValue() * 100);
+            if (cents > 0) {
+                creditors.add(new Balance(entry.getKey(), cents));
+            } else if (cents < 0) {
+                debtors.add(new Balance(entry.getKey(), -cents));
+            }
+        }
+
+        List<Transfer> transfers = new ArrayList<>();
+        // A cent or two of rounding may be left over on one side once the other is empty
+        while (!creditors.isEmpty() && !debtors.isEmpty()) {
+            Balance creditor = creditors.poll();
+            Balance debtor = debtors.poll();
+            long cents = Math.min(creditor.cents, debtor.cents);
+            transfers.add(new Transfer(debtor.userId, creditor.userId, cents / 100.0));
+            creditor.cents -= cents;
+            debtor.cents -= cents;
+            if (creditor.cents > 0) {
+                creditors.add(creditor);
+            }
+            if (debtor.cents > 0) {
+                debtors.add(debtor);
+            }
+        }
+        return transfers;
+    }
+
+    private static class Balance {
+        final String userId;
+        long cents;
+
+        Balance(String userId, long cents) {
+            this.userId = userId;
+            this.cents = cents;
+        }
+    }
+
+    // --- Benchmark: a 10,000-user group after 100,000 random expenses ---
+
+    public static void main(String[] args) {
+        int users = 10_000;
+        ExpenseManager expenseManager = new ExpenseManager();
+        for (int i = 0; i < users; i++) {
+            expenseManager.addUser(new User("u" + i, "User " + i));
+        }
+        Random random = new Random(42);
+        for (int e = 0; e < 100_000; e++) {
+            List<Split> splits = new ArrayList<>();
+            for (int s = 1 + random.nextInt(6); s > 0; s--) {
+                splits.add(new EqualSplit(expenseManager.getUser("u" + random.nextInt(users))));
+            }
+            expenseManager.addExpense(ExpenseType.EQUAL, 10 + random.nextInt(5_000), expenseManager.getUser("u" + random.nextInt(users)), splits);
+        }
+        Map<String, Double> balances = expenseManager.getNetBalances();
+
+        SettleUpEngine engine = new SettleUpEngine();
+        for (int round = 0; round < 5; round++) {
+            engine.settle(balances); // Warm up the JIT
+        }
+        long start = System.nanoTime();
+        List<Transfer> transfers = engine.settle(balances);
+        long micros = (System.nanoTime() - start) / 1_000;
+
+        // Paying every transfer must leave every user within a few cents of zero
+        Map<String, Double> remaining = new HashMap<>(balances);
+        for (Transfer transfer : transfers) {
+            remaining.merge(transfer.getFromUserId(), transfer.getAmount(), Double::sum);
+            remaining.merge(transfer.getToUserId(), -transfer.getAmount(), Double::sum);
+        }
+        int unsettled = 0;
+        for (double balance : remaining.values()) {
+            if (Math.abs(balance) > 0.05) {
+                unsettled++;
+            }
+        }
+        // Every greedy transfer clears at least one of the users with a balance
+        int withBalance = 0;
+        for (double balance : balances.values()) {
+            if (Math.round(balance * 100) != 0) {
+                withBalance++;
+            }
+        }
+
+        // A hand-checked group: no two of them cancel out, so 3 transfers is the minimum
+        Map<String, Double> small = new HashMap<>();
+        small.put("a", 30.0);
+        small.put("b", 20.0);
+        small.put("c", -25.0);
+        small.put("d", -25.0);
+        List<Transfer> smallTransfers = engine.settle(small);
+
+        System.out.println(String.format("%,d users, %,d pairwise debts, settled with %,d transfers in %,dus",
+            users, expenseManager.getPairwiseDebtCount(), transfers.size(), micros));
+        if (unsettled == 0 && transfers.size() <= withBalance - 1 && smallTransfers.size() == 3) {
+            System.out.println("Test PASSED!");
+        } else {
+            System.err.println("Test FAILED: " + unsettled + " users left unsettled, " + transfers.size() + " transfers for "
+                + withBalance + " users with a balance, " + smallTransfers.size() + " transfers for the 4-user group (expected 3).");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package LLDQuestions.Splitwise;
+
+// Using an abstract class for Split allows common fields and behavior
+abstract class Split {
+    private User user;
+    protected double amount; // The calculated share for this user
+
+    public Split(User user) {
+        this.user = user;
+    }
+    public User getUser() { return user; }
+    public double getAmount() { return amount; }
+    public void setAmount(double amount) { this.amount = amount; }
+}
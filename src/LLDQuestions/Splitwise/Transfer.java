@@ -0,0 +1,17 @@
+package LLDQuestions.Splitwise;
+
+// One payment that settles part of the debts: fromUserId pays toUserId the amount
+class Transfer {
+    private String fromUserId;
+    private String toUserId;
+    private double amount;
+
+    public Transfer(String fromUserId, String toUserId, double amount) {
+        this.fromUserId = fromUserId;
+        this.toUserId = toUserId;
+        this.amount = amount;
+    }
+    public String getFromUserId() { return fromUserId; }
+    public String getToUserId() { return toUserId; }
+    public double getAmount() { return amount; }
+}